@@ -0,0 +1,161 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A reusable set of block Rectangles for one layer: the falling brick, the ghost or a preview pane.
+ * Nodes are added to the parent once and then moved, recolored and hidden in place, so drawing
+ * a brick creates and removes no nodes after the first few frames.
+ */
+public final class BlockNodePool {
+
+    /** Cells of the largest brick; the pool grows past this only for larger shapes */
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static long createdNodes;
+
+    private final Pane parent;
+    private final BlockRenderer.BlockStyle style;
+    private final int size;
+    private final BlockRenderer factory = new BlockRenderer();
+
+    private final List<Rectangle> nodes = new ArrayList<>();
+    /** Color code each node is styled with, or -1 before its first use */
+    private int[] colors = new int[0];
+    private int visibleCount;
+
+    private BlockNodePool(Pane parent, BlockRenderer.BlockStyle style, int size) {
+        this.parent = parent;
+        this.style = style;
+        this.size = size;
+        ensureCapacity(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a pool that places cells on board coordinates of a GridPane.
+     *
+     * @param gridPane The board GridPane
+     * @param style NORMAL for the falling brick, GHOST for the ghost
+     * @return The pool, with its nodes already added but hidden
+     */
+    public static BlockNodePool forGrid(GridPane gridPane, BlockRenderer.BlockStyle style) {
+        return new BlockNodePool(gridPane, style, GameConstants.BRICK_SIZE);
+    }
+
+    /**
+     * Creates a pool that draws a brick centered in a preview Pane.
+     * The pane's existing children are removed; afterwards the pool owns its children.
+     *
+     * @param pane The preview pane
+     * @return The pool, with its nodes already added but hidden
+     */
+    public static BlockNodePool forPane(Pane pane) {
+        pane.getChildren().clear();
+        return new BlockNodePool(pane, BlockRenderer.BlockStyle.PREVIEW, GameConstants.PREVIEW_BRICK_SIZE);
+    }
+
+    /**
+     * @return Rectangles created by all pools since startup; stays flat during normal play
+     */
+    public static long getCreatedNodeCount() {
+        return createdNodes;
+    }
+
+    /**
+     * Shows a brick at a board position, hiding the cells above the visible area.
+     * Only valid for pools made with {@link #forGrid(GridPane, BlockRenderer.BlockStyle)}.
+     *
+     * @param shape The block shape data
+     * @param xPos The X position on the board
+     * @param yPos The Y position on the board
+     */
+    public void showOnGrid(int[][] shape, int xPos, int yPos) {
+        int used = 0;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                int column = xPos + j;
+                int row = yPos + i - GameConstants.HIDDEN_ROW_OFFSET;
+                if (shape[i][j] != 0 && row >= 0 && column >= 0 && column < GameConstants.BOARD_WIDTH) {
+                    Rectangle node = take(used++, shape[i][j]);
+                    GridPane.setConstraints(node, column, row);
+                }
+            }
+        }
+        hideFrom(used);
+    }
+
+    /**
+     * Shows a brick centered in the preview pane.
+     * Only valid for pools made with {@link #forPane(Pane)}.
+     *
+     * @param shape The block shape data
+     */
+    public void showCentered(int[][] shape) {
+        int offsetX = (int) (parent.getPrefWidth() - shape[0].length * size) / 2;
+        int offsetY = (int) (parent.getPrefHeight() - shape.length * size) / 2;
+        int used = 0;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    Rectangle node = take(used++, shape[i][j]);
+                    node.setLayoutX((double) offsetX + j * size);
+                    node.setLayoutY((double) offsetY + i * size);
+                }
+            }
+        }
+        hideFrom(used);
+    }
+
+    /**
+     * Hides every cell of this layer.
+     */
+    public void hide() {
+        hideFrom(0);
+    }
+
+    /**
+     * Makes the node at an index visible with the given color, recoloring only on change.
+     */
+    private Rectangle take(int index, int colorCode) {
+        ensureCapacity(index + 1);
+        Rectangle node = nodes.get(index);
+        if (colors[index] != colorCode) {
+            BlockRenderer.applyColor(node, colorCode, style);
+            colors[index] = colorCode;
+        }
+        node.setVisible(true);
+        if (index >= visibleCount) {
+            visibleCount = index + 1;
+        }
+        return node;
+    }
+
+    private void hideFrom(int index) {
+        for (int i = index; i < visibleCount; i++) {
+            nodes.get(i).setVisible(false);
+        }
+        visibleCount = Math.min(visibleCount, index);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (nodes.size() >= capacity) {
+            return;
+        }
+        int oldSize = nodes.size();
+        colors = Arrays.copyOf(colors, capacity);
+        Arrays.fill(colors, oldSize, capacity, -1);
+        while (nodes.size() < capacity) {
+            Rectangle node = factory.createRectangle(0, size, style);
+            node.setVisible(false);
+            nodes.add(node);
+            parent.getChildren().add(node);
+            createdNodes++;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.comp2042;
 
-import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
@@ -10,133 +10,41 @@ import javafx.scene.paint.Stop;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Helper class for rendering blocks to different containers.
- * Handles drawing falling blocks, ghost blocks, and preview blocks.
+ * Helper class for rendering blocks: shared paints, styled rectangles and pre-rendered
+ * sprites for each block style, and the pooled ghost piece on the game board.
  */
 public class BlockRenderer {
     
-    private final List<Node> ghostNodes = new ArrayList<>();
-    private GridPane ghostGridPane;
+    /** Color codes 0 to 7 have their own paints; any other code shares the white slot */
+    private static final int COLOR_SLOTS = 9;
+    private static final int WHITE_SLOT = COLOR_SLOTS - 1;
     
-    /**
-     * Context object for rendering operations to reduce parameter count.
-     */
-    private static class RenderingContext {
-        final GridPane gridPane;
-        final List<javafx.scene.Node> nodeList;
-        final BlockStyle style;
-        
-        RenderingContext(GridPane gridPane, List<javafx.scene.Node> nodeList, BlockStyle style) {
-            this.gridPane = gridPane;
-            this.nodeList = nodeList;
-            this.style = style;
-        }
-    }
+    /** Paints are immutable, so every cell of a color shares one instance */
+    private static final Paint[] FILL_PAINTS = new Paint[COLOR_SLOTS];
+    private static final Color[] BORDER_COLORS = new Color[COLOR_SLOTS];
+    private static final Color GHOST_STROKE = Color.color(1, 1, 1, 0.5);
     
-    
-    /**
-     * Renders a block to a GridPane (for falling blocks and ghost blocks on the game board).
-     * 
-     * @param shape The block shape data (2D array)
-     * @param xPos The X position on the board
-     * @param yPos The Y position on the board
-     * @param gridPane The GridPane to render to
-     * @param nodeList List to store the created nodes (for later removal)
-     * @param style The rendering style (NORMAL or GHOST)
-     */
-    public void renderToGridPane(int[][] shape, int xPos, int yPos, 
-                                  GridPane gridPane, List<javafx.scene.Node> nodeList, 
-                                  BlockStyle style) {
-        if (shape == null || gridPane == null) {
-            return;
-        }
-        
-        RenderingContext context = new RenderingContext(gridPane, nodeList, style);
-        for (int i = 0; i < shape.length; i++) {
-            renderRowToGridPane(shape[i], i, xPos, yPos, context);
+    static {
+        for (int i = 0; i < COLOR_SLOTS; i++) {
+            int code = i == WHITE_SLOT ? -1 : i;
+            FILL_PAINTS[i] = createFillColor(code);
+            BORDER_COLORS[i] = createBorderColor(code);
         }
     }
     
-    /**
-     * Renders a single row of the block shape to the GridPane.
-     * 
-     * @param row The row data from the shape array
-     * @param rowIndex The index of the row in the shape
-     * @param xPos The X position on the board
-     * @param yPos The Y position on the board
-     * @param context The rendering context containing gridPane, nodeList, and style
-     */
-    private void renderRowToGridPane(int[] row, int rowIndex, int xPos, int yPos,
-                                     RenderingContext context) {
-        for (int j = 0; j < row.length; j++) {
-            if (row[j] != 0) {
-                renderCellToGridPane(row[j], rowIndex, j, xPos, yPos, context);
-            }
-        }
-    }
+    /** Pre-rendered cell images, by cell size, then style and color slot; built on first use */
+    private static final Map<Integer, Image[][]> SPRITES = new HashMap<>();
     
-    /**
-     * Renders a single cell of the block to the GridPane.
-     * 
-     * @param colorCode The color code for the cell
-     * @param rowIndex The row index in the shape
-     * @param colIndex The column index in the shape
-     * @param xPos The X position on the board
-     * @param yPos The Y position on the board
-     * @param context The rendering context containing gridPane, nodeList, and style
-     */
-    private void renderCellToGridPane(int colorCode, int rowIndex, int colIndex, int xPos, int yPos,
-                                      RenderingContext context) {
-        Rectangle rectangle = createRectangle(colorCode, GameConstants.BRICK_SIZE, context.style);
-        
-        int gridColumn = xPos + colIndex;
-        int gridRow = yPos + rowIndex - GameConstants.HIDDEN_ROW_OFFSET;
-        
-        if (isValidGridPosition(gridRow, gridColumn)) {
-            context.gridPane.add(rectangle, gridColumn, gridRow);
-            if (context.nodeList != null) {
-                context.nodeList.add(rectangle);
-            }
-        }
-    }
-    
-    /**
-     * Renders a block to a Pane (for preview blocks like next blocks and hold block).
-     * 
-     * @param shape The block shape data (2D array)
-     * @param pane The Pane to render to
-     * @param style The rendering style (should be PREVIEW)
-     */
-    public void renderToPane(int[][] shape, Pane pane, BlockStyle style) {
-        if (shape == null || pane == null) {
-            return;
-        }
-        
-        pane.getChildren().clear();
-        
-        int offsetX = (int) (pane.getPrefWidth() - shape[0].length * GameConstants.PREVIEW_BRICK_SIZE) / 2;
-        int offsetY = (int) (pane.getPrefHeight() - shape.length * GameConstants.PREVIEW_BRICK_SIZE) / 2;
-        
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) {
-                    Rectangle rectangle = createRectangle(shape[i][j], GameConstants.PREVIEW_BRICK_SIZE, style);
-                    rectangle.setLayoutX((double) offsetX + j * GameConstants.PREVIEW_BRICK_SIZE);
-                    rectangle.setLayoutY((double) offsetY + i * GameConstants.PREVIEW_BRICK_SIZE);
-                    pane.getChildren().add(rectangle);
-                }
-            }
-        }
-    }
+    private BlockNodePool ghostPool;
     
     /**
      * Creates a styled rectangle based on the color code and style.
      */
-    private Rectangle createRectangle(int colorCode, int size, BlockStyle style) {
+    Rectangle createRectangle(int colorCode, int size, BlockStyle style) {
         Rectangle rectangle = new Rectangle(size, size);
         
         switch (style) {
@@ -148,6 +56,18 @@ public class BlockRenderer {
         return rectangle;
     }
     
+    /**
+     * Recolors a rectangle made by {@link #createRectangle(int, int, BlockStyle)} in place.
+     * Only fill and stroke change; the shape styling set at creation is kept.
+     * GHOST rectangles look the same for every color, so they are left untouched.
+     */
+    static void applyColor(Rectangle rectangle, int colorCode, BlockStyle style) {
+        if (style != BlockStyle.GHOST) {
+            rectangle.setFill(getFillColor(colorCode));
+            rectangle.setStroke(getBorderColor(colorCode));
+        }
+    }
+    
     private void configureNormalStyle(Rectangle rectangle, int colorCode) {
         rectangle.setFill(BlockRenderer.getFillColor(colorCode));
         rectangle.setStroke(BlockRenderer.getBorderColor(colorCode));
@@ -168,7 +88,7 @@ public class BlockRenderer {
     
     private void configureGhostStyle(Rectangle rectangle) {
         rectangle.setFill(Color.TRANSPARENT);
-        rectangle.setStroke(Color.color(1, 1, 1, 0.5));
+        rectangle.setStroke(GHOST_STROKE);
         rectangle.setStrokeType(StrokeType.INSIDE);
         rectangle.setStrokeWidth(2);
         rectangle.getStrokeDashArray().addAll(5d, 5d);
@@ -176,15 +96,54 @@ public class BlockRenderer {
         rectangle.setArcWidth(9);
     }
     
-    private boolean isValidGridPosition(int row, int column) {
-        return row >= 0 && column >= 0 && column < GameConstants.BOARD_WIDTH;
-    }
-    
     /**
      * Gets the fill color for a given color code.
      * Public static method for use in other classes (e.g., for background rendering).
+     * Returns a shared instance; nothing is allocated per call.
      */
     public static Paint getFillColor(int i) {
+        return FILL_PAINTS[colorSlot(i)];
+    }
+    
+    /**
+     * Gets the border color for a given color code.
+     * Public static method for use in other classes (e.g., for background rendering).
+     * Returns a shared instance; nothing is allocated per call.
+     */
+    public static Color getBorderColor(int i) {
+        return BORDER_COLORS[colorSlot(i)];
+    }
+    
+    /**
+     * Gets a pre-rendered image of one cell, drawn exactly like the Rectangle the same
+     * style would create. Images are rendered once per size, style and color on first use
+     * and shared afterwards, so drawing a cell becomes a plain image blit.
+     * Must be called on the JavaFX application thread.
+     * 
+     * @param colorCode The color code for the cell (ignored by the GHOST style)
+     * @param style The rendering style
+     * @param size The cell size in pixels
+     * @return The cell image
+     */
+    public static Image getSprite(int colorCode, BlockStyle style, int size) {
+        Image[][] sprites = SPRITES.computeIfAbsent(size, s -> new Image[BlockStyle.values().length][COLOR_SLOTS]);
+        int slot = style == BlockStyle.GHOST ? 0 : colorSlot(colorCode);
+        Image sprite = sprites[style.ordinal()][slot];
+        if (sprite == null) {
+            Rectangle rectangle = new BlockRenderer().createRectangle(colorCode, size, style);
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            sprite = rectangle.snapshot(parameters, null);
+            sprites[style.ordinal()][slot] = sprite;
+        }
+        return sprite;
+    }
+    
+    private static int colorSlot(int colorCode) {
+        return colorCode >= 0 && colorCode < WHITE_SLOT ? colorCode : WHITE_SLOT;
+    }
+    
+    private static Paint createFillColor(int i) {
         Paint returnPaint;
         switch (i) {
             case 0:
@@ -253,11 +212,7 @@ public class BlockRenderer {
         return returnPaint;
     }
     
-    /**
-     * Gets the border color for a given color code.
-     * Public static method for use in other classes (e.g., for background rendering).
-     */
-    public static Color getBorderColor(int i) {
+    private static Color createBorderColor(int i) {
         switch (i) {
             case 1: // AQUA
                 return Color.rgb(150, 255, 255);
@@ -285,48 +240,39 @@ public class BlockRenderer {
      * @param gridPane The GridPane where ghost blocks will be rendered
      */
     public void initializeGhostManagement(GridPane gridPane) {
-        this.ghostGridPane = gridPane;
-        clearGhost();
+        this.ghostPool = BlockNodePool.forGrid(gridPane, BlockStyle.GHOST);
     }
     
     /**
-     * Draws a ghost piece (outline with dotted border) showing where the block will land.
-     * Automatically clears any existing ghost before drawing the new one.
+     * Draws a ghost piece directly from shape data, without wrapping it in a {@link Block}.
+     * The ghost's pooled nodes are moved in place; none are created or removed.
      * 
-     * @param block The block shape to draw
+     * @param shape The block shape to draw, or null to only clear the ghost
      * @param xPos The X position of the block
      * @param ghostY The Y position where the ghost should appear (calculated landing position)
      */
-    public void drawGhost(Block block, int xPos, int ghostY) {
-        if (ghostGridPane == null) {
+    public void drawGhost(int[][] shape, int xPos, int ghostY) {
+        if (ghostPool == null) {
             return; // Ghost management not initialized
         }
         
-        // Remove old ghost nodes
-        clearGhost();
-        
-        if (block == null) {
+        if (shape == null) {
+            ghostPool.hide();
             return;
         }
         
-        int[][] shape = block.getShape();
-        
-        // Render the ghost block
-        renderToGridPane(shape, xPos, ghostY, ghostGridPane, ghostNodes, BlockStyle.GHOST);
+        ghostPool.showOnGrid(shape, xPos, ghostY);
     }
     
     /**
      * Clears the ghost piece from the display.
      */
     public void clearGhost() {
-        if (ghostGridPane == null) {
+        if (ghostPool == null) {
             return; // Ghost management not initialized
         }
         
-        for (Node node : ghostNodes) {
-            ghostGridPane.getChildren().remove(node);
-        }
-        ghostNodes.clear();
+        ghostPool.hide();
     }
     
     /**
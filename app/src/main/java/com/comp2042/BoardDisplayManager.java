@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import com.comp2042.jfr.BackgroundRefreshEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -8,12 +9,17 @@ import javafx.scene.shape.StrokeType;
 /**
  * Manages the display matrix (Rectangle[][]) that represents the game board visually.
  * Handles initialization, updates, and styling of board rectangles.
+ * Remembers the color each rectangle shows, so a refresh restyles only cells that changed.
  */
 public class BoardDisplayManager {
     
     private Rectangle[][] displayMatrix;
+    private int[][] shownColors;
     private final GridPane gamePanel;
     
+    private int restyledCells;
+    private long totalRestyledCells;
+    
     /**
      * Creates a new BoardDisplayManager.
      * 
@@ -35,6 +41,7 @@ public class BoardDisplayManager {
         }
         
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        shownColors = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
@@ -52,15 +59,66 @@ public class BoardDisplayManager {
      * @param board The current game board state
      */
     public void refreshGameBackground(int[][] board) {
+        if (board != null) {
+            refreshGameBackground(board, 0, board.length - 1);
+        }
+    }
+    
+    /**
+     * Refreshes only the given rows of the display matrix.
+     * Within those rows, only rectangles whose color changed are restyled.
+     * 
+     * @param board The current game board state
+     * @param firstRow The first (topmost) row that may have changed
+     * @param lastRow The last (bottommost) row that may have changed
+     */
+    public void refreshGameBackground(int[][] board, int firstRow, int lastRow) {
         if (displayMatrix == null || board == null) {
             return;
         }
         
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+        BackgroundRefreshEvent event = new BackgroundRefreshEvent();
+        event.begin();
+        int restyledBefore = restyledCells;
+        int first = Math.max(GameConstants.HIDDEN_ROW_OFFSET, firstRow);
+        int last = Math.min(lastRow, board.length - 1);
+        for (int i = first; i <= last; i++) {
+            int[] row = board[i];
+            int[] shown = shownColors[i];
+            for (int j = 0; j < row.length; j++) {
+                if (shown[j] != row[j]) {
+                    setRectangleData(row[j], displayMatrix[i][j]);
+                    shown[j] = row[j];
+                    restyledCells++;
+                }
             }
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.rowsAffected = Math.max(0, last - first + 1);
+            event.nodesTouched = restyledCells - restyledBefore;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Returns the number of rectangles restyled since the previous call and resets it.
+     * Calling this once per frame gives the restyle cost of each frame.
+     * 
+     * @return Rectangles restyled since the previous call
+     */
+    public int takeRestyledCellCount() {
+        int count = restyledCells;
+        totalRestyledCells += count;
+        restyledCells = 0;
+        return count;
+    }
+    
+    /**
+     * @return Rectangles restyled since initialization
+     */
+    public long getTotalRestyledCells() {
+        return totalRestyledCells + restyledCells;
     }
     
     /**
@@ -0,0 +1,79 @@
+package com.comp2042;
+
+/**
+ * Draws the game board: settled blocks, the falling brick and its ghost.
+ * Implementations are chosen at startup with {@link BoardViewType}.
+ */
+public interface BoardView {
+
+    /**
+     * Sets up the view for a board of the given size.
+     *
+     * @param boardMatrix The game board matrix (used to determine dimensions)
+     */
+    void initialize(int[][] boardMatrix);
+
+    /**
+     * Shows the settled blocks and clears the ghost.
+     *
+     * @param boardMatrix The current game board state
+     */
+    default void refreshBackground(int[][] boardMatrix) {
+        refreshBackground(boardMatrix, 0, boardMatrix.length - 1);
+    }
+
+    /**
+     * Shows the settled blocks of the rows that changed and clears the ghost.
+     *
+     * @param boardMatrix The current game board state
+     * @param firstRow The first (topmost) row that changed
+     * @param lastRow The last (bottommost) row that changed
+     */
+    void refreshBackground(int[][] boardMatrix, int firstRow, int lastRow);
+
+    /**
+     * Shows the falling brick and its ghost, replacing the previous ones.
+     *
+     * @param shape The brick shape
+     * @param xPos The X position of the brick
+     * @param yPos The Y position of the brick
+     * @param ghostY The Y position where the brick would land
+     */
+    void drawBrick(int[][] shape, int xPos, int yPos, int ghostY);
+
+    /**
+     * Removes the falling brick and its ghost.
+     */
+    void clearBrick();
+
+    /**
+     * Removes only the ghost, e.g. while paused.
+     */
+    void clearGhost();
+
+    /**
+     * Plays the lock effect on the cells of a brick that has just locked.
+     *
+     * @param lockedBrick The brick's shape and position
+     */
+    void animateLock(ViewData lockedBrick);
+
+    /**
+     * Returns how many cells were restyled or redrawn since the previous call, and resets the count.
+     * Calling this once per frame gives the rendering cost of each frame.
+     *
+     * @return Cells restyled or redrawn since the previous call
+     */
+    int takeRestyledCellCount();
+
+    /**
+     * Releases anything the view keeps running, such as animation timers.
+     */
+    void dispose();
+
+    /**
+     * Restarts what {@link #dispose()} stopped, when a cached game view is shown again.
+     */
+    default void reactivate() {
+    }
+}
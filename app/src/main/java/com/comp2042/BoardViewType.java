@@ -0,0 +1,53 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Available board renderers.
+ * The renderer is chosen at startup with {@code -Dtetris.renderer=nodes|canvas}.
+ */
+public enum BoardViewType {
+
+    /** One Rectangle node per cell, restyled on every change */
+    NODES {
+        @Override
+        public BoardView create(GridPane gamePanel) {
+            return new NodeBoardView(gamePanel);
+        }
+    },
+
+    /** A single Canvas redrawn at most once per pulse */
+    CANVAS {
+        @Override
+        public BoardView create(GridPane gamePanel) {
+            return new CanvasBoardView(gamePanel);
+        }
+    };
+
+    /**
+     * Creates a renderer that draws into the given panel.
+     *
+     * @param gamePanel The GridPane that holds the board
+     * @return A new, uninitialized board view
+     */
+    public abstract BoardView create(GridPane gamePanel);
+
+    /**
+     * Resolves the renderer from the {@link GameConstants#RENDERER_PROPERTY} system property.
+     *
+     * @return The configured renderer, or {@link #NODES} if unset or unknown
+     */
+    public static BoardViewType fromSystemProperty() {
+        String value = System.getProperty(GameConstants.RENDERER_PROPERTY);
+        if (value == null) {
+            return NODES;
+        }
+        for (BoardViewType type : values()) {
+            if (type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        System.err.println("Unknown renderer '" + value + "', using " + NODES);
+        return NODES;
+    }
+}
@@ -0,0 +1,227 @@
+package com.comp2042;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Immediate-mode renderer: the settled blocks, falling brick and ghost are drawn onto one
+ * {@link Canvas}. Updates only record state and mark the view dirty; an {@link AnimationTimer}
+ * redraws at most once per pulse, so a burst of moves between two frames costs one draw
+ * and never adds or removes scene graph nodes. Cells are blitted from
+ * {@link BlockRenderer#getSprite(int, BlockRenderer.BlockStyle, int)}.
+ */
+public class CanvasBoardView implements BoardView {
+
+    /** Distance between cells, matching the 1 pixel gaps of the node renderer's GridPane */
+    private static final int CELL_PITCH = GameConstants.BRICK_SIZE + 1;
+    private static final double ARC = 9;
+    private static final long LOCK_FLASH_NANOS =
+            GameConstants.LOCK_PULSE_DURATION_MS * GameConstants.LOCK_PULSE_CYCLES * 1_000_000L;
+
+    private final GridPane gamePanel;
+
+    private Canvas canvas;
+    private GraphicsContext graphics;
+    private int[][] cells;
+
+    private int[][] brickShape;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private boolean showGhost;
+
+    private int[][] lockShape;
+    private int lockX;
+    private int lockY;
+    private long lockStart = -1;
+
+    private boolean dirty = true;
+
+    /** Sprites blitted since the last {@link #takeRestyledCellCount()}; every draw repaints all cells */
+    private int drawnCells;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (lockShape != null) {
+                dirty = true;
+            }
+            if (dirty) {
+                dirty = false;
+                draw(now);
+            }
+        }
+    };
+
+    public CanvasBoardView(GridPane gamePanel) {
+        this.gamePanel = gamePanel;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix) {
+        if (boardMatrix == null || boardMatrix.length == 0 || boardMatrix[0].length == 0) {
+            return;
+        }
+        int columns = boardMatrix[0].length;
+        int visibleRows = boardMatrix.length - GameConstants.HIDDEN_ROW_OFFSET;
+        cells = new int[boardMatrix.length][columns];
+        canvas = new Canvas(columns * CELL_PITCH - 1, visibleRows * CELL_PITCH - 1);
+        graphics = canvas.getGraphicsContext2D();
+        gamePanel.add(canvas, 0, 0, columns, visibleRows);
+        refreshBackground(boardMatrix);
+        timer.start();
+    }
+
+    @Override
+    public void refreshBackground(int[][] boardMatrix, int firstRow, int lastRow) {
+        if (cells == null || boardMatrix == null) {
+            return;
+        }
+        int last = Math.min(lastRow, cells.length - 1);
+        for (int i = Math.max(0, firstRow); i <= last; i++) {
+            System.arraycopy(boardMatrix[i], 0, cells[i], 0, cells[i].length);
+        }
+        showGhost = false;
+        dirty = true;
+    }
+
+    @Override
+    public int takeRestyledCellCount() {
+        int count = drawnCells;
+        drawnCells = 0;
+        return count;
+    }
+
+    @Override
+    public void drawBrick(int[][] shape, int xPos, int yPos, int ghostY) {
+        this.brickShape = shape;
+        this.brickX = xPos;
+        this.brickY = yPos;
+        this.ghostY = ghostY;
+        this.showGhost = true;
+        dirty = true;
+    }
+
+    @Override
+    public void clearBrick() {
+        brickShape = null;
+        showGhost = false;
+        dirty = true;
+    }
+
+    @Override
+    public void clearGhost() {
+        showGhost = false;
+        dirty = true;
+    }
+
+    @Override
+    public void animateLock(ViewData lockedBrick) {
+        lockShape = lockedBrick.getBrickData();
+        lockX = lockedBrick.getxPosition();
+        lockY = lockedBrick.getyPosition();
+        lockStart = -1;
+        dirty = true;
+    }
+
+    @Override
+    public void dispose() {
+        timer.stop();
+    }
+
+    @Override
+    public void reactivate() {
+        dirty = true;
+        timer.start();
+    }
+
+    private void draw(long now) {
+        if (graphics == null) {
+            return;
+        }
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for (int i = GameConstants.HIDDEN_ROW_OFFSET; i < cells.length; i++) {
+            int[] row = cells[i];
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != 0) {
+                    drawCell(row[j], j, i);
+                }
+            }
+        }
+        if (brickShape != null) {
+            if (showGhost) {
+                drawGhost();
+            }
+            drawShape(brickShape, brickX, brickY);
+        }
+        if (lockShape != null) {
+            drawLockFlash(now);
+        }
+    }
+
+    private void drawShape(int[][] shape, int xPos, int yPos) {
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    drawCell(shape[i][j], xPos + j, yPos + i);
+                }
+            }
+        }
+    }
+
+    private void drawCell(int color, int column, int row) {
+        drawSprite(BlockRenderer.getSprite(color, BlockRenderer.BlockStyle.NORMAL, GameConstants.BRICK_SIZE),
+                column, row);
+    }
+
+    private void drawGhost() {
+        Image ghost = BlockRenderer.getSprite(0, BlockRenderer.BlockStyle.GHOST, GameConstants.BRICK_SIZE);
+        for (int i = 0; i < brickShape.length; i++) {
+            for (int j = 0; j < brickShape[i].length; j++) {
+                if (brickShape[i][j] != 0) {
+                    drawSprite(ghost, brickX + j, ghostY + i);
+                }
+            }
+        }
+    }
+
+    private void drawSprite(Image sprite, int column, int row) {
+        if (row < GameConstants.HIDDEN_ROW_OFFSET || column < 0 || column >= cells[0].length) {
+            return;
+        }
+        graphics.drawImage(sprite, column * CELL_PITCH, (row - GameConstants.HIDDEN_ROW_OFFSET) * CELL_PITCH);
+        drawnCells++;
+    }
+
+    /**
+     * Fades a white overlay over the cells of the brick that just locked.
+     */
+    private void drawLockFlash(long now) {
+        if (lockStart < 0) {
+            lockStart = now;
+        }
+        double progress = (double) (now - lockStart) / LOCK_FLASH_NANOS;
+        if (progress >= 1) {
+            lockShape = null;
+            return;
+        }
+        graphics.setFill(Color.color(1, 1, 1, 0.6 * (1 - progress)));
+        double size = GameConstants.BRICK_SIZE;
+        for (int i = 0; i < lockShape.length; i++) {
+            for (int j = 0; j < lockShape[i].length; j++) {
+                int row = lockY + i;
+                int column = lockX + j;
+                if (lockShape[i][j] != 0 && row >= GameConstants.HIDDEN_ROW_OFFSET
+                        && column >= 0 && column < cells[0].length) {
+                    graphics.fillRoundRect(column * CELL_PITCH,
+                            (row - GameConstants.HIDDEN_ROW_OFFSET) * CELL_PITCH, size, size, ARC, ARC);
+                }
+            }
+        }
+    }
+}
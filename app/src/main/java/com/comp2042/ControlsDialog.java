@@ -108,6 +108,10 @@ public class ControlsDialog {
         pauseControl.getStyleClass().add(GameConstants.CSS_CONTROLS_ITEM);
         Label newGameControl = new Label("  N               →  New game");
         newGameControl.getStyleClass().add(GameConstants.CSS_CONTROLS_ITEM);
+        Label perfHudControl = new Label("  F3              →  Performance overlay");
+        perfHudControl.getStyleClass().add(GameConstants.CSS_CONTROLS_ITEM);
+        Label rewindControl = new Label("  Z               →  Rewind last brick (practice)");
+        rewindControl.getStyleClass().add(GameConstants.CSS_CONTROLS_ITEM);
         
         // Menu shortcuts
         Label newGameShortcut = new Label("  Ctrl+N          →  New game");
@@ -123,7 +127,7 @@ public class ControlsDialog {
             movementHeader,
             leftControl, rightControl, downControl, hardDropControl, rotateControl, holdControl,
             gameHeader,
-            pauseControl, newGameControl,
+            pauseControl, newGameControl, perfHudControl, rewindControl,
             menuHeader,
             newGameShortcut, exitShortcut,
             new Label(""), // Spacer
@@ -0,0 +1,387 @@
+package com.comp2042;
+
+import com.comp2042.jfr.LineClearEvent;
+import com.comp2042.jfr.PieceLockEvent;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayRecorder;
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects the headless {@link GameEngine} to the JavaFX view.
+ * Forwards input to the engine and turns engine notifications into GUI updates.
+ *
+ * <p>When {@link GameConstants#REPLAY_DIR_PROPERTY} is set, every finished game is saved there
+ * as a {@link Replay}. When {@link GameConstants#REPLAY_FILE_PROPERTY} is set, that replay is
+ * played back through the same engine and listener path instead of a live game: one recorded
+ * tick per timeline tick, or all at once with {@link GameConstants#REPLAY_UNCAPPED_PROPERTY}.
+ *
+ * <p>When {@link GameConstants#REWIND_PROPERTY} is set, a live game is a practice game: the
+ * engine is snapshotted each time a new brick spawns, and {@link #onRewindEvent()} takes back
+ * placed bricks one at a time, up to {@link GameConstants#REWIND_HISTORY_LIMIT}. Practice games
+ * are not recorded and do not count towards the high score or the leaderboard.
+ */
+public class GameController implements InputEventListener, GameListener {
+
+    /** Saves replays off the JavaFX thread, one at a time */
+    private static final ExecutorService REPLAY_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SevenBagGenerator generator;
+
+    private final GameEngine engine;
+
+    /** Where input goes: the engine itself, or a recorder in front of it */
+    private final InputEventListener input;
+
+    private final ReplayRecorder recorder;
+
+    private final Replay replay;
+
+    private ReplayPlayer replayPlayer;
+
+    /** Set while a replay is fast-forwarded, to skip per-event effects */
+    private boolean fastForwarding;
+
+    /** Game state at each spawned brick, newest last; null unless rewinding is enabled */
+    private final ArrayDeque<GameSnapshot> rewindHistory;
+
+    private final GuiController viewGuiController;
+
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    
+    private int highScore = 0;
+
+    /** Wall clock start of the current game, for the leaderboard */
+    private long gameStartMillis;
+
+    public GameController(GuiController c) {
+        viewGuiController = c;
+        
+        replay = loadReplay(System.getProperty(GameConstants.REPLAY_FILE_PROPERTY));
+        generator = replay != null ? ReplayPlayer.createGenerator(replay) : new SevenBagGenerator();
+        engine = new GameEngine(BoardType.fromSystemProperty()
+                .create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, generator));
+        // A rewound game can no longer be reproduced from its inputs, so practice games are not recorded
+        rewindHistory = replay == null && Boolean.getBoolean(GameConstants.REWIND_PROPERTY) ? new ArrayDeque<>() : null;
+        if (replay == null && rewindHistory == null && System.getProperty(GameConstants.REPLAY_DIR_PROPERTY) != null) {
+            recorder = new ReplayRecorder(engine, generator);
+            input = recorder;
+        } else {
+            recorder = null;
+            input = engine;
+        }
+        
+        // Load high score from file on startup, then raise it to the leaderboard's best once its index is read
+        highScore = HighScoreManager.loadHighScore();
+        viewGuiController.updateHighScore(highScore);
+        Leaderboard.shared().bestScore(GameConstants.LEADERBOARD_MODE_MARATHON)
+                .thenAccept(best -> Platform.runLater(() -> raiseHighScore(best)));
+        
+        engine.setGameListener(this);
+        createNewGame();
+        viewGuiController.setEventListener(this);
+        viewGuiController.initGameView(engine.getBoardMatrix(), engine.getViewData());
+        viewGuiController.bindScore(score);
+
+        if (replayPlayer != null && Boolean.getBoolean(GameConstants.REPLAY_UNCAPPED_PROPERTY)) {
+            fastForward();
+        }
+    }
+
+    private static Replay loadReplay(String file) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            return Replay.load(Path.of(file));
+        } catch (IOException e) {
+            System.err.println("Failed to load replay, starting a live game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Plays the rest of the replay at once, then redraws the final state.
+     */
+    private void fastForward() {
+        fastForwarding = true;
+        try {
+            replayPlayer.playToEnd();
+        } finally {
+            fastForwarding = false;
+        }
+        viewGuiController.refreshGameBackground(engine.getBoardMatrix());
+        viewGuiController.refreshBrick(engine.isGameOver() ? null : engine.getViewData());
+    }
+
+    /**
+     * @return true while a recorded game is being played back
+     */
+    public boolean isReplaying() {
+        return replayPlayer != null;
+    }
+    
+    /**
+     * Checks if the current score exceeds the high score and updates it if necessary.
+     */
+    private void raiseHighScore(int best) {
+        if (best > highScore) {
+            highScore = best;
+            viewGuiController.updateHighScore(highScore);
+        }
+    }
+
+    private void checkAndUpdateHighScore(int currentScore) {
+        if (currentScore > highScore) {
+            highScore = currentScore;
+            viewGuiController.updateHighScore(highScore);
+            // Coalesced and written off the JavaFX thread
+            HighScoreManager.writeBehind().submit(highScore);
+        }
+    }
+
+    /**
+     * Calculates the Y position where the current block would land (ghost position).
+     * @return The Y position where the block would land, or current Y if already at bottom
+     */
+    public int calculateGhostY() {
+        return engine.calculateGhostY();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (replayPlayer == null) {
+            return rememberPlacement(input.onDownEvent(event));
+        }
+        if (event.getEventSource() == EventSource.THREAD && !replayPlayer.isFinished()) {
+            return replayPlayer.step();
+        }
+        return new DownData(null, engine.isGameOver() ? null : engine.getViewData());
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return engine.isGameOver() ? null : engine.getViewData();
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        return replayPlayer == null ? input.onLeftEvent(event) : engine.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        return replayPlayer == null ? input.onRightEvent(event) : engine.getViewData();
+    }
+
+    @Override
+    public boolean onShiftEvent(MoveEvent event) {
+        return replayPlayer == null && input.onShiftEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        return replayPlayer == null ? input.onRotateEvent(event) : engine.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        return replayPlayer == null ? input.onHoldEvent(event) : engine.getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        if (replayPlayer != null) {
+            return new DownData(null, engine.isGameOver() ? null : engine.getViewData());
+        }
+        return rememberPlacement(input.onHardDropEvent(event));
+    }
+
+    /**
+     * Takes back the last placed brick. The newest history entry is the falling brick's own
+     * spawn, so that is dropped and the one before restored; after game over the newest entry
+     * is the brick that ended the game, and restoring it resumes play from its spawn.
+     */
+    @Override
+    public ViewData onRewindEvent() {
+        if (rewindHistory == null || rewindHistory.isEmpty()) {
+            return null;
+        }
+        if (!engine.isGameOver() && rewindHistory.size() > 1) {
+            rewindHistory.removeLast();
+        }
+        engine.restore(rewindHistory.getLast());
+        return engine.getViewData();
+    }
+
+    /**
+     * Adds the new falling brick to the rewind history when a down or drop locked the previous one.
+     */
+    private DownData rememberPlacement(DownData downData) {
+        if (rewindHistory != null && downData.getClearRow() != null && !engine.isGameOver()) {
+            rememberSpawn();
+        }
+        return downData;
+    }
+
+    private void rememberSpawn() {
+        if (rewindHistory.size() == GameConstants.REWIND_HISTORY_LIMIT) {
+            rewindHistory.removeFirst();
+        }
+        rewindHistory.addLast(engine.snapshot());
+    }
+
+    /**
+     * Starts a new game. While replaying, this restarts the replay from its first tick.
+     */
+    @Override
+    public void createNewGame() {
+        if (replay != null) {
+            generator.seek(replay.getStartPosition());
+            engine.createNewGame();
+            replayPlayer = new ReplayPlayer(replay, engine);
+        } else {
+            input.createNewGame();
+            gameStartMillis = System.currentTimeMillis();
+            if (rewindHistory != null) {
+                rewindHistory.clear();
+                rememberSpawn();
+            }
+        }
+    }
+
+    private void submitToLeaderboard() {
+        long now = System.currentTimeMillis();
+        Leaderboard.shared().submit(new LeaderboardEntry(System.getProperty("user.name", "player"),
+                GameConstants.LEADERBOARD_MODE_MARATHON, engine.getScore(), engine.getLinesCleared(),
+                now - gameStartMillis, generator.getSeed(), now));
+    }
+
+    /**
+     * Captures the finished game and writes it on the replay writer thread.
+     */
+    private void saveReplay() {
+        Path dir = Path.of(System.getProperty(GameConstants.REPLAY_DIR_PROPERTY));
+        Path file = dir.resolve("replay-" + Long.toHexString(generator.getSeed())
+                + "-" + System.currentTimeMillis() + GameConstants.REPLAY_FILE_EXTENSION);
+        Replay finished = recorder.toReplay();
+        REPLAY_WRITER.execute(() -> {
+            try {
+                Files.createDirectories(dir);
+                finished.save(file);
+            } catch (IOException e) {
+                System.err.println("Failed to save replay: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Waits for replays still being saved. Call once when the application exits.
+     */
+    static void shutdownReplayWriter() {
+        REPLAY_WRITER.shutdown();
+        try {
+            REPLAY_WRITER.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void onBrickLocked(ViewData lockedBrick) {
+        PieceLockEvent event = new PieceLockEvent();
+        if (event.shouldCommit()) {
+            event.column = lockedBrick.getxPosition();
+            event.row = lockedBrick.getyPosition();
+            event.commit();
+        }
+        // Animate the lock effect
+        if (!fastForwarding) {
+            viewGuiController.animateLockBlock(lockedBrick);
+        }
+    }
+
+    @Override
+    public void onRowsCleared(ClearRow clearRow) {
+        LineClearEvent event = new LineClearEvent();
+        if (event.shouldCommit()) {
+            event.rowsAffected = clearRow.getLinesRemoved();
+            event.scoreBonus = clearRow.getScoreBonus();
+            event.commit();
+        }
+        // Show the score notification popup
+        if (!fastForwarding) {
+            viewGuiController.showScoreNotification(clearRow);
+        }
+    }
+
+    @Override
+    public void onBoardChanged(int[][] boardMatrix, int firstRow, int lastRow) {
+        // A fast-forward redraws the board once at the end
+        if (!fastForwarding) {
+            viewGuiController.refreshGameBackground(boardMatrix, firstRow, lastRow);
+        }
+    }
+
+    @Override
+    public void onHardDrop(int rowsDropped) {
+        // Block has hit the bottom - trigger screen shake effect
+        if (!fastForwarding) {
+            viewGuiController.shakeBoard();
+        }
+    }
+
+    @Override
+    public void onPreviewChanged(Block next1, Block next2, Block next3) {
+        viewGuiController.drawNextBlock1(next1);
+        viewGuiController.drawNextBlock2(next2);
+        viewGuiController.drawNextBlock3(next3);
+    }
+
+    @Override
+    public void onHoldChanged(Block heldBrick) {
+        viewGuiController.drawHoldBlock(heldBrick);
+    }
+
+    @Override
+    public void onScoreChanged(int value) {
+        score.set(value);
+        // A replayed or practice score is not a new achievement
+        if (replay == null && rewindHistory == null) {
+            checkAndUpdateHighScore(value);
+        }
+    }
+
+    @Override
+    public void onGameOver() {
+        // Immediate collision detected - game over, the colliding block is not drawn
+        if (recorder != null) {
+            saveReplay();
+        }
+        if (replay == null && rewindHistory == null) {
+            submitToLeaderboard();
+        }
+        HighScoreManager.writeBehind().flush();
+        viewGuiController.showLeaderboard(List.of());
+        viewGuiController.gameOver();
+        // Answered after the submit above, so this game is ranked too
+        Leaderboard.shared().top(GameConstants.LEADERBOARD_MODE_MARATHON, GameConstants.LEADERBOARD_SHOWN)
+                .thenAccept(entries -> Platform.runLater(() -> viewGuiController.showLeaderboard(entries)));
+    }
+}
@@ -0,0 +1,705 @@
+package com.comp2042;
+
+import com.comp2042.jfr.BrickRenderEvent;
+import com.comp2042.jfr.GravityTickEvent;
+import com.comp2042.jfr.InputHandledEvent;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Group;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.scene.text.Font;
+
+import java.net.URL;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+public class GuiController implements Initializable {
+
+    /** The automatic down move; immutable, so one instance serves every gravity tick */
+    private static final MoveEvent GRAVITY_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent ROTATE_EVENT = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD_EVENT = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent HARD_DROP_EVENT = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    /** Key events that can arrive within one logic tick; far more than a player can press */
+    private static final int INPUT_QUEUE_CAPACITY = 256;
+
+    @FXML
+    private GridPane gamePanel;
+
+    @FXML
+    private Group groupNotification;
+
+    @FXML
+    private javafx.scene.layout.BorderPane gameBoard;
+
+    @FXML
+    private GridPane brickPanel;
+
+    @FXML
+    private Label scoreLabel;
+
+    @FXML
+    private Label highScoreLabel;
+
+    @FXML
+    private VBox gameOverScreen;
+
+    @FXML
+    private Label gameOverLabel;
+
+    @FXML
+    private Label leaderboardLabel;
+
+    @FXML
+    private Button newGameButton;
+
+    @FXML
+    private Button exitButton;
+
+    @FXML
+    private Pane nextBlockPane1;
+
+    @FXML
+    private Pane nextBlockPane2;
+
+    @FXML
+    private Pane nextBlockPane3;
+
+    @FXML
+    private Pane holdBlockPane;
+
+    @FXML
+    private Label perfHudLabel;
+
+    private PerformanceHud performanceHud;
+
+    private BoardView boardView;
+    
+    private PauseMenuDialog pauseMenuDialog;
+    
+    private ControlsDialog controlsDialog;
+
+    private InputEventListener eventListener;
+
+    /** Fixed-timestep logic clock, advanced by the game loop on every pulse */
+    private final GameClock gameClock = new GameClock(GameConstants.LOGIC_TICK_NANOS,
+            GameConstants.MAX_CATCH_UP_TICKS, this::onLogicTick);
+
+    private final AnimationTimer gameLoop = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            runFrame();
+        }
+    };
+
+    /** Falling brick left by the logic ticks of the current frame, drawn once at its end */
+    private ViewData pendingBrick;
+
+    private boolean brickChanged;
+
+    /** Timestamp of the oldest key press applied since the brick was last drawn, or 0 */
+    private long oldestUndrawnInputNanos;
+
+    /** Key events from the {@link InputHandler}, applied by the game loop */
+    private final InputQueue inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY);
+
+    private final InputQueue.Consumer inputApplier = this::applyInput;
+
+    /** Repeats held movement keys on logic ticks; created with the event listener */
+    private AutoShift autoShift;
+
+    private final BooleanProperty isPause = new SimpleBooleanProperty();
+    
+    /** Reusable preview nodes for the next and hold panes, created on first draw */
+    private final Map<Pane, BlockNodePool> previewPools = new IdentityHashMap<>();
+
+    private final BooleanProperty isGameOver = new SimpleBooleanProperty();
+    
+    private final GameEffects gameEffects = new GameEffects();
+
+    /**
+     * Registers digital.ttf with JavaFX once per run, on first use.
+     */
+    private static final class DigitalFont {
+        static {
+            Font.loadFont(GuiController.class.getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
+        }
+
+        static void ensureLoaded() {
+            // Loading happens in the static initializer
+        }
+    }
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        DigitalFont.ensureLoaded();
+        gamePanel.setFocusTraversable(true);
+        gamePanel.requestFocus();
+        if (gameOverScreen != null) {
+            gameOverScreen.setVisible(false);
+            gameOverScreen.setManaged(false);
+        }
+    }
+    
+    /**
+     * Checks if the game is currently paused.
+     * @return true if paused, false otherwise
+     */
+    public boolean isPaused() {
+        return isPause.get();
+    }
+    
+    /**
+     * Checks if the game is over.
+     * @return true if game over, false otherwise
+     */
+    public boolean isGameOver() {
+        return isGameOver.get();
+    }
+
+
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        // Initialize the board renderer selected at startup
+        boardView = BoardViewType.fromSystemProperty().create(gamePanel);
+        boardView.initialize(boardMatrix);
+
+        // Initialize falling block
+        boardView.drawBrick(brick.getBrickData(), brick.getxPosition(), brick.getyPosition(),
+                brick.getGhostYPosition());
+
+        // Initialize pause menu dialog
+        if (pauseMenuDialog == null) {
+            Stage primaryStage = SceneManager.getStage(gamePanel);
+            pauseMenuDialog = new PauseMenuDialog(
+                primaryStage,
+                this::resumeGame,
+                () -> newGame(null),
+                () -> showControls(null),
+                () -> exitGame(null)
+            );
+        }
+
+        if (perfHudLabel != null && performanceHud == null) {
+            performanceHud = new PerformanceHud(perfHudLabel, gamePanel);
+        }
+
+        gameClock.reset();
+        gameClock.start(System.nanoTime());
+        gameLoop.start();
+    }
+
+    /**
+     * Runs once per JavaFX pulse: steps the game logic by however many fixed ticks have
+     * elapsed, then draws the resulting brick state once.
+     */
+    private void runFrame() {
+        long frameStart = System.nanoTime();
+        boolean measuring = performanceHud != null && performanceHud.isVisible();
+        if (measuring) {
+            performanceHud.frameStarted(frameStart);
+        }
+        gameClock.advance(frameStart);
+        // Inputs that arrived after the last due tick are not held back until the next frame
+        drainInput();
+        if (brickChanged) {
+            brickChanged = false;
+            refreshBrick(pendingBrick);
+            if (measuring && oldestUndrawnInputNanos != 0) {
+                performanceHud.recordInputLatency(System.nanoTime() - oldestUndrawnInputNanos);
+            }
+        }
+        oldestUndrawnInputNanos = 0;
+        int restyled = boardView != null ? boardView.takeRestyledCellCount() : 0;
+        if (measuring) {
+            performanceHud.addRestyledCells(restyled);
+        }
+    }
+
+    /**
+     * Starts a fresh game when this view is shown again from the scene cache,
+     * undoing what {@link #returnToMainMenu()} stopped.
+     */
+    public void restartSession() {
+        if (boardView != null) {
+            boardView.reactivate();
+        }
+        newGame(null);
+        gameLoop.start();
+    }
+
+    /**
+     * Shows or hides the performance overlay.
+     */
+    public void togglePerformanceHud() {
+        if (performanceHud != null) {
+            performanceHud.toggle();
+        }
+    }
+
+    /**
+     * One fixed logic tick: held keys repeat first, then gravity moves the brick every
+     * {@link GameConstants#GRAVITY_INTERVAL_TICKS} ticks.
+     */
+    private void onLogicTick(long tick) {
+        long tickStart = performanceHud != null && performanceHud.isVisible() ? System.nanoTime() : 0;
+        drainInput();
+        if (autoShift != null && autoShift.tick()) {
+            showBrickAtFrameEnd(autoShift.getViewData());
+        }
+        if (tick % GameConstants.GRAVITY_INTERVAL_TICKS == 0) {
+            moveDown(GRAVITY_EVENT);
+        }
+        if (tickStart != 0) {
+            performanceHud.recordTick(System.nanoTime() - tickStart);
+        }
+    }
+
+
+
+    public void refreshBrick(ViewData brick) {
+        if (boardView == null) {
+            return;
+        }
+        if (brick == null) {
+            // Clear falling block and ghost if no brick data (e.g., game over)
+            boardView.clearBrick();
+            return;
+        }
+        
+        if (isPause.getValue() == Boolean.FALSE) {
+            // Draw the falling block and the ghost piece showing where it will land
+            BrickRenderEvent event = new BrickRenderEvent();
+            event.begin();
+            boardView.drawBrick(brick.getBrickData(), brick.getxPosition(), brick.getyPosition(),
+                    brick.getGhostYPosition());
+            event.end();
+            if (event.shouldCommit()) {
+                event.ghostRow = brick.getGhostYPosition();
+                event.dropDistance = brick.getGhostYPosition() - brick.getyPosition();
+                event.commit();
+            }
+        } else {
+            // Clear ghost when paused
+            boardView.clearGhost();
+        }
+    }
+
+    public void refreshGameBackground(int[][] board) {
+        // The view clears the ghost when the background refreshes (block locked)
+        if (boardView != null) {
+            boardView.refreshBackground(board);
+        }
+    }
+
+    /**
+     * Redraws only the rows of the background that changed.
+     *
+     * @param board The current game board state
+     * @param firstRow The first (topmost) changed row
+     * @param lastRow The last (bottommost) changed row
+     */
+    public void refreshGameBackground(int[][] board, int firstRow, int lastRow) {
+        if (boardView != null) {
+            boardView.refreshBackground(board, firstRow, lastRow);
+        }
+    }
+
+    private void drainInput() {
+        inputQueue.drain(inputApplier);
+    }
+
+    /**
+     * Applies one queued key event to the game. Presses that arrive while paused or after
+     * game over are dropped; releases always reach the auto shift.
+     */
+    private void applyInput(EventType type, boolean released, long nanos) {
+        if (autoShift == null) {
+            return;
+        }
+        if (released) {
+            autoShift.release(type);
+            return;
+        }
+        if (isPause.get() || isGameOver.get()) {
+            return;
+        }
+        if (oldestUndrawnInputNanos == 0) {
+            oldestUndrawnInputNanos = nanos;
+        }
+        InputHandledEvent event = new InputHandledEvent();
+        event.begin();
+        applyPress(type);
+        event.end();
+        if (event.shouldCommit()) {
+            event.input = type.name();
+            event.queueDelay = System.nanoTime() - nanos;
+            event.commit();
+        }
+    }
+
+    private void applyPress(EventType type) {
+        switch (type) {
+            case LEFT, RIGHT, DOWN -> {
+                if (autoShift.press(type)) {
+                    showBrickAtFrameEnd(autoShift.getViewData());
+                }
+            }
+            case ROTATE -> showBrickAtFrameEnd(eventListener.onRotateEvent(ROTATE_EVENT));
+            case HOLD -> {
+                ViewData viewData = eventListener.onHoldEvent(HOLD_EVENT);
+                if (viewData != null) {
+                    showBrickAtFrameEnd(viewData);
+                }
+            }
+            case HARD_DROP -> {
+                ViewData viewData = eventListener.onHardDropEvent(HARD_DROP_EVENT).getViewData();
+                if (viewData != null) {
+                    showBrickAtFrameEnd(viewData);
+                }
+            }
+        }
+    }
+
+    private void showBrickAtFrameEnd(ViewData brick) {
+        pendingBrick = brick;
+        brickChanged = true;
+    }
+
+    /**
+     * Handles the automatic down movement from the game clock.
+     * This is called by the game loop, not by user input; the brick is drawn at the end of the frame.
+     */
+    void moveDown(MoveEvent event) {
+        if (isPause.getValue() == Boolean.FALSE) {
+            GravityTickEvent tickEvent = new GravityTickEvent();
+            tickEvent.begin();
+            // Line clear notifications arrive through GameController's engine listener
+            DownData downData = eventListener.onDownEvent(event);
+            showBrickAtFrameEnd(downData.getViewData());
+            tickEvent.end();
+            if (tickEvent.shouldCommit()) {
+                tickEvent.locked = downData.getClearRow() != null;
+                tickEvent.commit();
+            }
+        }
+        gamePanel.requestFocus();
+    }
+
+    public void showScoreNotification(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            NotificationPanel notificationPanel = new NotificationPanel("+" + clearRow.getScoreBonus());
+            
+            // Center the notification over the gameboard
+            notificationPanel.centerOverGameBoard(gameBoard, groupNotification);
+            
+            if (groupNotification != null) {
+                groupNotification.getChildren().add(notificationPanel);
+                notificationPanel.showScore(groupNotification.getChildren());
+            }
+        }
+    }
+
+    public void setEventListener(InputEventListener eventListener) {
+        this.eventListener = eventListener;
+        this.autoShift = AutoShift.fromSystemProperties(eventListener);
+    }
+
+    /**
+     * Gets the queue key events are put on. The game loop is its only consumer.
+     *
+     * @return The input queue of this game view
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    public void bindScore(IntegerProperty integerProperty) {
+        if (scoreLabel != null && integerProperty != null) {
+            scoreLabel.textProperty().bind(integerProperty.asString());
+        }
+    }
+
+    public void updateHighScore(int score) {
+        if (highScoreLabel != null) {
+            highScoreLabel.setText(String.valueOf(score));
+        }
+    }
+
+    public void gameOver() {
+        gameClock.stop();
+        showGameOverScreen();
+        closePauseMenu();
+        isGameOver.setValue(Boolean.TRUE);
+        isPause.setValue(Boolean.FALSE); // Ensure pause is cleared on game over
+    }
+
+    /**
+     * Lists the best games on the game over screen; an empty list hides the listing.
+     *
+     * @param entries The best games, best first
+     */
+    public void showLeaderboard(List<LeaderboardEntry> entries) {
+        if (leaderboardLabel == null) {
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(String.format("%d. %-10.10s %7d %4dL", i + 1, entry.getPlayer(),
+                    entry.getScore(), entry.getLines()));
+        }
+        leaderboardLabel.setText(text.toString());
+        leaderboardLabel.setVisible(!entries.isEmpty());
+        leaderboardLabel.setManaged(!entries.isEmpty());
+    }
+
+    private void showGameOverScreen() {
+        if (gameOverScreen != null) {
+            gameOverScreen.setVisible(true);
+            gameOverScreen.setManaged(true);
+        }
+    }
+
+    @FXML
+    public void onNewGameButtonClick(ActionEvent actionEvent) {
+        hideGameOverScreen();
+        newGame(actionEvent);
+    }
+
+    @FXML
+    public void onExitButtonClick(ActionEvent actionEvent) {
+        returnToMainMenu();
+    }
+
+    private void hideGameOverScreen() {
+        if (gameOverScreen != null) {
+            gameOverScreen.setVisible(false);
+            gameOverScreen.setManaged(false);
+        }
+    }
+
+    @FXML
+    public void newGame(ActionEvent actionEvent) {
+        gameClock.stop();
+        hideGameOverScreen();
+        closePauseMenu();
+        eventListener.createNewGame();
+        gamePanel.requestFocus();
+        gameClock.reset();
+        gameClock.start(System.nanoTime());
+        isPause.setValue(Boolean.FALSE);
+        isGameOver.setValue(Boolean.FALSE);
+    }
+
+    /**
+     * Takes back the last placed brick when the game keeps a rewind history.
+     * Works after game over too, resuming play from the restored brick.
+     */
+    public void rewind() {
+        if (eventListener == null || isPause.get()) {
+            return;
+        }
+        drainInput();
+        ViewData brick = eventListener.onRewindEvent();
+        if (brick == null) {
+            return;
+        }
+        if (isGameOver.get()) {
+            hideGameOverScreen();
+            isGameOver.setValue(Boolean.FALSE);
+            gameClock.reset();
+            gameClock.start(System.nanoTime());
+        }
+        showBrickAtFrameEnd(brick);
+        gamePanel.requestFocus();
+    }
+
+    @FXML
+    public void pauseGame(ActionEvent actionEvent) {
+        togglePause();
+    }
+
+    public void togglePause() {
+        if (isGameOver.get()) {
+            return; // Don't allow pausing when game is over
+        }
+        
+        boolean currentlyPaused = isPause.get();
+        
+        if (currentlyPaused) {
+            // Resume the game
+            resumeGame();
+        } else {
+            // Pause the game
+            doPause();
+        }
+    }
+    
+    private void doPause() {
+        // Moves pressed before the pause still count
+        drainInput();
+        isPause.setValue(Boolean.TRUE);
+        if (autoShift != null) {
+            autoShift.releaseAll();
+        }
+        gameClock.stop();
+        showPauseMenu();
+    }
+    
+    private void resumeGame() {
+        isPause.setValue(Boolean.FALSE);
+        gameClock.start(System.nanoTime());
+        closePauseMenu();
+        gamePanel.requestFocus();
+    }
+    
+    private void showPauseMenu() {
+        if (pauseMenuDialog != null) {
+            pauseMenuDialog.show();
+        }
+    }
+    
+    private void closePauseMenu() {
+        if (pauseMenuDialog != null) {
+            pauseMenuDialog.close();
+        }
+    }
+
+    @FXML
+    public void showControls(ActionEvent actionEvent) {
+        // Check if game is paused before opening controls menu
+        boolean wasPaused = isPause.getValue();
+        
+        // Close existing dialog if showing
+        if (controlsDialog != null && controlsDialog.isShowing()) {
+            controlsDialog.close();
+        }
+        
+        // Create new dialog with current pause state
+        Stage primaryStage = SceneManager.getStage(gamePanel);
+        controlsDialog = new ControlsDialog(
+            primaryStage,
+            () -> {
+                if (wasPaused) {
+                    resumeGame();
+                }
+            }
+        );
+        
+        controlsDialog.show();
+    }
+
+    @FXML
+    public void showAbout(ActionEvent actionEvent) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("About TetrisJFX");
+        alert.setHeaderText("TetrisJFX");
+        alert.setContentText("""
+            A classic Tetris game implementation in JavaFX.
+
+            Clear rows by completing horizontal lines.
+            Score points by clearing multiple rows at once!
+
+            Version 1.0""");
+        alert.showAndWait();
+        gamePanel.requestFocus();
+    }
+
+    @FXML
+    public void exitGame(ActionEvent actionEvent) {
+        returnToMainMenu();
+    }
+    
+    private void returnToMainMenu() {
+        // Stop the game loop if running
+        gameClock.stop();
+        gameLoop.stop();
+        if (boardView != null) {
+            boardView.dispose();
+        }
+        HighScoreManager.writeBehind().flush();
+        
+        // Close pause menu if open
+        closePauseMenu();
+        
+        // Switch to the cached main menu scene using SceneManager
+        if (!SceneManager.switchToMainMenu(gamePanel, getClass())) {
+            // Fallback to exit if menu loading fails
+            SceneManager.handleTransitionError();
+        }
+    }
+
+    /**
+     * Draws a block in the specified pane. Handles centering and styling.
+     * @param block The block to draw, or null to clear the pane
+     * @param pane The pane to draw in
+     */
+    private void drawBlockInPane(Block block, Pane pane) {
+        if (pane == null) {
+            return;
+        }
+        BlockNodePool pool = previewPools.computeIfAbsent(pane, BlockNodePool::forPane);
+        if (block == null) {
+            pool.hide();
+            return;
+        }
+        
+        pool.showCentered(block.getShape());
+    }
+
+    public void drawNextBlock1(Block block) {
+        drawBlockInPane(block, nextBlockPane1);
+    }
+
+    public void drawNextBlock2(Block block) {
+        drawBlockInPane(block, nextBlockPane2);
+    }
+
+    public void drawNextBlock3(Block block) {
+        drawBlockInPane(block, nextBlockPane3);
+    }
+
+    public void drawHoldBlock(Block block) {
+        drawBlockInPane(block, holdBlockPane);
+    }
+
+    /**
+     * Animates the lock effect when a block lands and locks into place.
+     * The board view picks the effect: the node renderer pulses the block's rectangles,
+     * the canvas renderer flashes its cells.
+     * 
+     * @param viewData The ViewData containing the block's position and shape data
+     */
+    public void animateLockBlock(ViewData viewData) {
+        if (viewData == null || boardView == null) {
+            return;
+        }
+
+        boardView.animateLock(viewData);
+    }
+
+    /**
+     * Creates a screen shake effect when a hard drop occurs.
+     * Shakes the game board randomly by small amounts and returns to center.
+     */
+    public void shakeBoard() {
+        gameEffects.shakeBoard(gameBoard);
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042;
+
+import com.comp2042.jfr.HighScoreSaveEvent;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Scanner;
+
+public class HighScoreManager {
+    
+    private static HighScoreWriter writer;
+    
+    /**
+     * Loads the high score from the file.
+     * @return The high score, or 0 if the file doesn't exist or has an error
+     */
+    public static int loadHighScore() {
+        File file = new File(GameConstants.HIGHSCORE_FILE);
+        
+        if (!file.exists()) {
+            return 0;
+        }
+        
+        try (Scanner scanner = new Scanner(file)) {
+            if (scanner.hasNextInt()) {
+                return scanner.nextInt();
+            }
+        } catch (FileNotFoundException e) {
+            // File doesn't exist, return 0
+            return 0;
+        } catch (Exception e) {
+            // Any other error, return 0
+            return 0;
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Saves the high score to the file, overwriting the old one.
+     * Blocks on file I/O; game code should use {@link #writeBehind()} instead.
+     * @param score The score to save
+     */
+    public static void saveHighScore(int score) {
+        try {
+            writeAtomically(score);
+        } catch (IOException e) {
+            // If saving fails, we can't do much about it
+            // In a production app, you might want to log this
+            System.err.println("Failed to save high score: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the shared background writer, starting it on first use.
+     * @return The write-behind writer for the high score file
+     */
+    public static synchronized HighScoreWriter writeBehind() {
+        if (writer == null) {
+            writer = new HighScoreWriter(GameConstants.HIGHSCORE_FLUSH_INTERVAL_MS);
+        }
+        return writer;
+    }
+    
+    /**
+     * Reads the writer's statistics without starting it.
+     * @return Duration of the slowest write-behind write in nanoseconds, or 0 if the writer has not started
+     */
+    public static synchronized long getMaxFlushNanos() {
+        return writer == null ? 0 : writer.getMaxFlushNanos();
+    }
+    
+    /**
+     * Writes any pending high score and stops the background writer. Call on application exit.
+     */
+    public static synchronized void shutdown() {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+    
+    /**
+     * Writes the score to a temporary file next to the high score file, then renames it over
+     * the old file, so a crash mid-write never leaves a truncated high score behind.
+     * @param score The score to save
+     * @throws IOException If the file cannot be written
+     */
+    static void writeAtomically(int score) throws IOException {
+        HighScoreSaveEvent event = new HighScoreSaveEvent();
+        event.begin();
+        event.score = score;
+        Path target = Path.of(GameConstants.HIGHSCORE_FILE).toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), "highscore", ".tmp");
+        try {
+            Files.writeString(temp, String.valueOf(score));
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            event.success = true;
+        } finally {
+            Files.deleteIfExists(temp);
+            event.commit();
+        }
+    }
+}
+
@@ -0,0 +1,122 @@
+package com.comp2042;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind persistence for the high score.
+ * {@link #submit(int)} only records the score; a background thread writes the latest value
+ * at most once per flush interval, so any number of score changes in between cost one write.
+ * {@link #flush()} writes promptly (e.g. on game over) and {@link #close()} writes synchronously
+ * before the application exits. Writes are atomic, see {@link HighScoreManager#saveHighScore(int)}.
+ */
+public class HighScoreWriter implements AutoCloseable {
+
+    private static final int NOTHING_PENDING = Integer.MIN_VALUE;
+
+    private final long flushIntervalMs;
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** Latest score not yet written, or NOTHING_PENDING */
+    private final AtomicInteger pending = new AtomicInteger(NOTHING_PENDING);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private volatile long maxFlushNanos;
+    private volatile boolean closed;
+
+    /**
+     * @param flushIntervalMs The longest a submitted score waits before it is written
+     */
+    public HighScoreWriter(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "highscore-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // close() writes the pending score itself, so it must not wait out a scheduled flush
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Records a new high score to be written within the flush interval. Never blocks on I/O.
+     *
+     * @param score The score to persist
+     */
+    public void submit(int score) {
+        if (closed) {
+            return;
+        }
+        pending.accumulateAndGet(score, Math::max);
+        scheduleFlush();
+    }
+
+    /**
+     * Writes any pending score on the background thread without waiting for the interval.
+     */
+    public void flush() {
+        if (!closed && pending.get() != NOTHING_PENDING) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes any pending score on the calling thread and stops the background thread.
+     * A write already in progress is waited for; a scheduled one is dropped, not waited out.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(flushIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writePending();
+    }
+
+    /**
+     * @return Duration of the slowest write so far in nanoseconds
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos;
+    }
+
+    /**
+     * Schedules a write of the pending score one flush interval from now, unless one is already scheduled.
+     */
+    private void scheduleFlush() {
+        if (closed || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(this::writePending, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed meanwhile; close() writes the pending score itself
+        }
+    }
+
+    private synchronized void writePending() {
+        flushScheduled.set(false);
+        int score = pending.getAndSet(NOTHING_PENDING);
+        if (score == NOTHING_PENDING) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            HighScoreManager.writeAtomically(score);
+        } catch (IOException e) {
+            // Keep the score and retry after the interval, unless a higher one arrived meanwhile
+            pending.accumulateAndGet(score, Math::max);
+            System.err.println("Failed to save high score: " + e.getMessage());
+            scheduleFlush();
+            return;
+        }
+        maxFlushNanos = Math.max(maxFlushNanos, System.nanoTime() - start);
+    }
+}
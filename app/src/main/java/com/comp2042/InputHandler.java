@@ -0,0 +1,215 @@
+package com.comp2042;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Handles keyboard input for the game.
+ * Decouples input handling from the GUI controller.
+ *
+ * <p>Key presses and releases are tracked so that holding a key does not depend on the
+ * operating system's key repeat: repeated presses of a held key are ignored, and held
+ * movement keys are repeated by an {@link AutoShift} on the game clock.
+ *
+ * <p>Game inputs are not applied here. They are timestamped and put on the
+ * {@link GuiController#getInputQueue() input queue}, which the game loop drains once per
+ * logic tick, so any number of key events in one pulse cost a single redraw.
+ */
+public class InputHandler implements EventHandler<KeyEvent> {
+    
+    private final GuiController guiController;
+    private final Scene scene;
+    private final InputQueue inputQueue;
+    
+    /** Keys currently down, used to drop the operating system's repeated presses */
+    private final Set<KeyCode> heldKeys = EnumSet.noneOf(KeyCode.class);
+    
+    private long lastDropNanos;
+    private boolean dropped;
+    
+    /** Releases are not delivered while the window is unfocused, so forget held keys on focus loss */
+    private final ChangeListener<Boolean> focusListener = (obs, wasFocused, focused) -> {
+        if (!focused) {
+            releaseAllKeys();
+        }
+    };
+    
+    /**
+     * Creates a new InputHandler.
+     * 
+     * @param scene The scene to listen for key events
+     * @param guiController The GUI controller for UI updates
+     */
+    public InputHandler(Scene scene, GuiController guiController) {
+        this.scene = scene;
+        this.guiController = guiController;
+        this.inputQueue = guiController.getInputQueue();
+        setupKeyListener();
+    }
+    
+    /**
+     * Sets up the key listeners on the scene.
+     */
+    private void setupKeyListener() {
+        scene.setOnKeyPressed(this);
+        scene.setOnKeyReleased(this::handleRelease);
+        if (scene.getWindow() != null) {
+            // The stage outlives this scene; a weak listener lets the handler be collected
+            scene.getWindow().focusedProperty().addListener(new WeakChangeListener<>(focusListener));
+        }
+    }
+    
+    private void releaseAllKeys() {
+        heldKeys.clear();
+        long now = System.nanoTime();
+        inputQueue.offer(EventType.LEFT, true, now);
+        inputQueue.offer(EventType.RIGHT, true, now);
+        inputQueue.offer(EventType.DOWN, true, now);
+    }
+    
+    @Override
+    public void handle(KeyEvent e) {
+        long now = System.nanoTime();
+        KeyCode code = e.getCode();
+        if (!heldKeys.add(code)) {
+            // Operating system key repeat; held keys repeat on the game clock instead
+            e.consume();
+            return;
+        }
+        boolean gameActive = !guiController.isPaused() && !guiController.isGameOver();
+        
+        if (gameActive && handleGameActiveKeys(code, now, e)) {
+            return;
+        }
+        
+        handleMenuKeys(code, e);
+        if (guiController.isPaused()) {
+            // Keys released while the pause menu has focus are never seen here
+            releaseAllKeys();
+        }
+    }
+    
+    private void handleRelease(KeyEvent e) {
+        long now = System.nanoTime();
+        KeyCode code = e.getCode();
+        heldKeys.remove(code);
+        if (isLeftKey(code)) {
+            inputQueue.offer(EventType.LEFT, true, now);
+        } else if (isRightKey(code)) {
+            inputQueue.offer(EventType.RIGHT, true, now);
+        } else if (isDownKey(code)) {
+            inputQueue.offer(EventType.DOWN, true, now);
+        }
+    }
+    
+    private boolean handleGameActiveKeys(KeyCode code, long now, KeyEvent e) {
+        if (isMovementKey(code)) {
+            return handleMovementKey(code, now, e);
+        }
+        
+        if (code == KeyCode.C) {
+            queueInput(EventType.HOLD, now, e);
+            return true;
+        }
+        
+        if (code == KeyCode.SPACE) {
+            handleHardDropKey(now);
+            e.consume();
+            return true;
+        }
+        
+        return false;
+    }
+    
+    private boolean isMovementKey(KeyCode code) {
+        return code == KeyCode.LEFT || code == KeyCode.A ||
+               code == KeyCode.RIGHT || code == KeyCode.D ||
+               code == KeyCode.UP || code == KeyCode.W ||
+               code == KeyCode.DOWN || code == KeyCode.S;
+    }
+    
+    private boolean handleMovementKey(KeyCode code, long now, KeyEvent e) {
+        if (isLeftKey(code)) {
+            queueInput(EventType.LEFT, now, e);
+            return true;
+        }
+        
+        if (isRightKey(code)) {
+            queueInput(EventType.RIGHT, now, e);
+            return true;
+        }
+        
+        if (isUpKey(code)) {
+            queueInput(EventType.ROTATE, now, e);
+            return true;
+        }
+        
+        if (isDownKey(code)) {
+            queueInput(EventType.DOWN, now, e);
+            return true;
+        }
+        
+        return false;
+    }
+    
+    private boolean isLeftKey(KeyCode code) {
+        return code == KeyCode.LEFT || code == KeyCode.A;
+    }
+    
+    private boolean isRightKey(KeyCode code) {
+        return code == KeyCode.RIGHT || code == KeyCode.D;
+    }
+    
+    private boolean isUpKey(KeyCode code) {
+        return code == KeyCode.UP || code == KeyCode.W;
+    }
+    
+    private boolean isDownKey(KeyCode code) {
+        return code == KeyCode.DOWN || code == KeyCode.S;
+    }
+    
+    private void queueInput(EventType type, long now, KeyEvent e) {
+        inputQueue.offer(type, false, now);
+        e.consume();
+    }
+    
+    private void handleHardDropKey(long now) {
+        if (!dropped || now - lastDropNanos > GameConstants.DROP_COOLDOWN_MS * 1_000_000L) {
+            dropped = true;
+            lastDropNanos = now;
+            inputQueue.offer(EventType.HARD_DROP, false, now);
+        }
+    }
+    
+    private void handleMenuKeys(KeyCode code, KeyEvent e) {
+        if (code == KeyCode.N) {
+            guiController.newGame(null);
+        } else if (code == KeyCode.ESCAPE) {
+            guiController.togglePause();
+            e.consume();
+        } else if (code == KeyCode.Z) {
+            guiController.rewind();
+            e.consume();
+        } else if (code == KeyCode.F3) {
+            guiController.togglePerformanceHud();
+            e.consume();
+        }
+    }
+    
+    /**
+     * Requests focus for keyboard input.
+     */
+    public void requestFocus() {
+        if (scene.getRoot() != null) {
+            scene.getRoot().requestFocus();
+        }
+    }
+}
+
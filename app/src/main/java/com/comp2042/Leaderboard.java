@@ -0,0 +1,364 @@
+package com.comp2042;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Local leaderboard: every finished game is appended to a binary log, and the best K games
+ * of each mode are kept in an in-memory index.
+ *
+ * <p>Every {@value #INDEX_SNAPSHOT_INTERVAL} games and on {@link #close()} the index is also
+ * snapshotted to a small file together with the log offset it covers. Opening the store reads
+ * that snapshot and only the log records written after it, so startup cost does not grow with
+ * the length of the history, and {@link #top(String, int)} copies at most K entries.
+ *
+ * <p>Log records are {@code [int length][entry][int crc32]}; a torn record at the end of the
+ * log (e.g. after a crash) is detected by its length or checksum and cut off.
+ *
+ * <p>Nothing here blocks the caller. Opening, {@link #submit(LeaderboardEntry)} and the queries
+ * all run in order on one background thread, which alone touches the index and the files; the
+ * queries return futures, so they see the index once it is read and every game submitted
+ * before them.
+ */
+public class Leaderboard implements AutoCloseable {
+
+    private static final int INDEX_MAGIC = 0x4c424958;
+    private static final int INDEX_VERSION = 1;
+
+    /** Entries larger than this are treated as a corrupt length prefix */
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    /** Games appended between index snapshots; opening replays at most this many log records */
+    private static final int INDEX_SNAPSHOT_INTERVAL = 16;
+
+    private static Leaderboard shared;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final int capacity;
+    private final ExecutorService executor;
+
+    // The fields below are only touched on the background thread
+
+    /** Best entries per mode, best first, at most capacity each */
+    private final Map<String, List<LeaderboardEntry>> topByMode = new HashMap<>();
+    /** Log size covered by topByMode */
+    private long indexedOffset;
+    /** Games appended since the index was last snapshotted */
+    private int unsavedRecords;
+
+    private FileChannel log;
+
+    /**
+     * Opens a leaderboard, creating its files on the first append. The existing index is read
+     * in the background.
+     *
+     * @param logFile The append-only game log
+     * @param indexFile The top-K snapshot file
+     * @param capacity Entries kept per mode (K)
+     */
+    public Leaderboard(Path logFile, Path indexFile, int capacity) {
+        this.logFile = logFile;
+        this.indexFile = indexFile;
+        this.capacity = capacity;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::load);
+    }
+
+    /**
+     * Gets the application's leaderboard, opening it on first use.
+     *
+     * @return The shared leaderboard backed by the files named in {@link GameConstants}
+     */
+    public static synchronized Leaderboard shared() {
+        if (shared == null) {
+            shared = new Leaderboard(Path.of(GameConstants.LEADERBOARD_LOG_FILE),
+                    Path.of(GameConstants.LEADERBOARD_INDEX_FILE), GameConstants.LEADERBOARD_TOP_K);
+        }
+        return shared;
+    }
+
+    /**
+     * Finishes pending appends and closes the shared leaderboard. Call on application exit.
+     */
+    public static synchronized void shutdown() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    /**
+     * Records a finished game. Returns immediately; the write happens in the background.
+     *
+     * @param entry The game to record
+     */
+    public void submit(LeaderboardEntry entry) {
+        executor.execute(() -> append(entry));
+    }
+
+    /**
+     * Gets the best games of a mode, including every game submitted before this call.
+     *
+     * @param mode The game mode
+     * @param k Maximum number of entries; at most the store's capacity are kept
+     * @return Completes on the background thread with up to k entries, best first
+     */
+    public CompletableFuture<List<LeaderboardEntry>> top(String mode, int k) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<LeaderboardEntry> entries = topByMode.get(mode);
+            if (entries == null) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(entries.subList(0, Math.min(k, entries.size())));
+        }, executor);
+    }
+
+    /**
+     * @param mode The game mode
+     * @return Completes on the background thread with the best score of a mode,
+     *         or 0 if no game has been recorded
+     */
+    public CompletableFuture<Integer> bestScore(String mode) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<LeaderboardEntry> entries = topByMode.get(mode);
+            return entries == null || entries.isEmpty() ? 0 : entries.get(0).getScore();
+        }, executor);
+    }
+
+    /**
+     * Waits for pending appends, snapshots the index if games were added since the last
+     * snapshot, then closes the log.
+     */
+    @Override
+    public void close() {
+        if (!executor.isShutdown()) {
+            executor.execute(this::saveIndexIfStale);
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close leaderboard: " + e.getMessage());
+            }
+        }
+    }
+
+    private void append(LeaderboardEntry entry) {
+        try {
+            if (log == null) {
+                log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                log.truncate(indexedOffset);
+                log.position(indexedOffset);
+            }
+            ByteBuffer record = encode(entry);
+            while (record.hasRemaining()) {
+                log.write(record);
+            }
+            indexedOffset = log.position();
+            insert(entry);
+            if (++unsavedRecords >= INDEX_SNAPSHOT_INTERVAL) {
+                saveIndex();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save leaderboard entry: " + e.getMessage());
+        }
+    }
+
+    private void saveIndexIfStale() {
+        if (unsavedRecords == 0) {
+            return;
+        }
+        try {
+            saveIndex();
+        } catch (IOException e) {
+            System.err.println("Failed to save leaderboard index: " + e.getMessage());
+        }
+    }
+
+    private void insert(LeaderboardEntry entry) {
+        List<LeaderboardEntry> entries = topByMode.computeIfAbsent(entry.getMode(), m -> new ArrayList<>());
+        if (entries.size() == capacity
+                && LeaderboardEntry.BEST_FIRST.compare(entry, entries.get(capacity - 1)) >= 0) {
+            return;
+        }
+        int position = Collections.binarySearch(entries, entry, LeaderboardEntry.BEST_FIRST);
+        entries.add(position < 0 ? -position - 1 : position, entry);
+        if (entries.size() > capacity) {
+            entries.remove(entries.size() - 1);
+        }
+    }
+
+    private static ByteBuffer encode(LeaderboardEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        entry.write(out);
+        out.writeInt(0);
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int length = record.capacity() - 8;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 4, length);
+        record.putInt(0, length);
+        record.putInt(4 + length, (int) crc.getValue());
+        return record;
+    }
+
+    /**
+     * Reads the index snapshot, then only the log records written after it.
+     */
+    private void load() {
+        indexedOffset = 0;
+        try {
+            loadIndex();
+        } catch (NoSuchFileException e) {
+            // First run, or the snapshot was lost: rebuild from the whole log
+        } catch (IOException e) {
+            System.err.println("Leaderboard index unreadable, rebuilding: " + e.getMessage());
+            topByMode.clear();
+            indexedOffset = 0;
+        }
+        try {
+            replayLogTail();
+        } catch (NoSuchFileException e) {
+            // No games recorded yet
+        } catch (IOException e) {
+            System.err.println("Failed to read leaderboard log: " + e.getMessage());
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                throw new IOException("Not a leaderboard index");
+            }
+            long offset = in.readLong();
+            int modes = in.readInt();
+            for (int i = 0; i < modes; i++) {
+                in.readUTF();
+                int count = in.readInt();
+                for (int j = 0; j < count; j++) {
+                    insert(LeaderboardEntry.read(in));
+                }
+            }
+            indexedOffset = offset;
+        }
+    }
+
+    /**
+     * Indexes the records after the snapshot offset. Stops at the first torn record;
+     * the next append truncates the log there.
+     */
+    private void replayLogTail() throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            if (channel.size() < indexedOffset) {
+                // The log is shorter than the snapshot claims; trust the log
+                topByMode.clear();
+                indexedOffset = 0;
+            }
+            channel.position(indexedOffset);
+            InputStream stream = new BufferedInputStream(Channels.newInputStream(channel));
+            DataInputStream in = new DataInputStream(stream);
+            long start = indexedOffset;
+            int length;
+            while ((length = readRecordLength(in)) >= 0) {
+                byte[] payload = new byte[length];
+                LeaderboardEntry entry;
+                try {
+                    in.readFully(payload);
+                    CRC32 crc = new CRC32();
+                    crc.update(payload);
+                    if (in.readInt() != (int) crc.getValue()) {
+                        break;
+                    }
+                    entry = LeaderboardEntry.read(new DataInputStream(new ByteArrayInputStream(payload)));
+                } catch (EOFException e) {
+                    break;
+                }
+                insert(entry);
+                indexedOffset += 8 + length;
+            }
+            if (indexedOffset != start) {
+                saveIndex();
+            }
+        }
+    }
+
+    /**
+     * @return The payload length of the next record, or -1 at the end of the log or a corrupt prefix
+     */
+    private static int readRecordLength(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            return length > 0 && length <= MAX_RECORD_LENGTH ? length : -1;
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+
+    private void saveIndex() throws IOException {
+        Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "leaderboard", ".tmp");
+        try {
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream out = new DataOutputStream(stream);
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeLong(indexedOffset);
+                out.writeInt(topByMode.size());
+                for (Map.Entry<String, List<LeaderboardEntry>> mode : topByMode.entrySet()) {
+                    out.writeUTF(mode.getKey());
+                    out.writeInt(mode.getValue().size());
+                    for (LeaderboardEntry entry : mode.getValue()) {
+                        entry.write(out);
+                    }
+                }
+                out.flush();
+            }
+            try {
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            unsavedRecords = 0;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * One finished game on the leaderboard.
+ */
+public final class LeaderboardEntry {
+
+    /** Best first: higher score, then more lines, then the earlier game */
+    public static final Comparator<LeaderboardEntry> BEST_FIRST = Comparator
+            .comparingInt(LeaderboardEntry::getScore).reversed()
+            .thenComparing(Comparator.comparingInt(LeaderboardEntry::getLines).reversed())
+            .thenComparingLong(LeaderboardEntry::getTimestamp);
+
+    private final String player;
+    private final String mode;
+    private final int score;
+    private final int lines;
+    private final long durationMs;
+    private final long seed;
+    private final long timestamp;
+
+    /**
+     * @param player Name of the player
+     * @param mode Game mode the score was set in
+     * @param score Final score
+     * @param lines Rows cleared
+     * @param durationMs Length of the game in milliseconds
+     * @param seed Seed of the brick sequence, so the game can be identified or replayed
+     * @param timestamp When the game ended, in epoch milliseconds
+     */
+    public LeaderboardEntry(String player, String mode, int score, int lines, long durationMs,
+                            long seed, long timestamp) {
+        this.player = player;
+        this.mode = mode;
+        this.score = score;
+        this.lines = lines;
+        this.durationMs = durationMs;
+        this.seed = seed;
+        this.timestamp = timestamp;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(timestamp);
+        out.writeLong(seed);
+        out.writeLong(durationMs);
+        out.writeInt(score);
+        out.writeInt(lines);
+        out.writeUTF(player);
+        out.writeUTF(mode);
+    }
+
+    static LeaderboardEntry read(DataInput in) throws IOException {
+        long timestamp = in.readLong();
+        long seed = in.readLong();
+        long durationMs = in.readLong();
+        int score = in.readInt();
+        int lines = in.readInt();
+        String player = in.readUTF();
+        String mode = in.readUTF();
+        return new LeaderboardEntry(player, mode, score, lines, durationMs, seed, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return player + " " + score + " (" + lines + " lines, " + mode + ")";
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+public class Main extends Application {
+
+    @Override
+    public void start(Stage primaryStage) throws Exception {
+
+        // Read both layouts in the background while the toolkit starts up
+        SceneManager.preload(getClass(), SceneManager.MAIN_MENU_FXML, SceneManager.GAME_LAYOUT_FXML);
+        // Start reading the leaderboard index in the background; the game reads its best score
+        Leaderboard.shared();
+
+        primaryStage.setTitle(GameConstants.APP_TITLE);
+        primaryStage.setResizable(false);
+        if (SceneManager.showCachedScene(primaryStage, SceneManager.MAIN_MENU_FXML, getClass(), null) == null) {
+            throw new IllegalStateException("Failed to load " + SceneManager.MAIN_MENU_FXML);
+        }
+        primaryStage.show();
+        // Build the game scene once the menu is up, so Start does not wait for it
+        Platform.runLater(() -> SceneManager.getCachedScene(SceneManager.GAME_LAYOUT_FXML, getClass()));
+    }
+
+    @Override
+    public void stop() {
+        // Make sure a high score still waiting in the write-behind buffer reaches the disk
+        HighScoreManager.shutdown();
+        Leaderboard.shutdown();
+        GameController.shutdownReplayWriter();
+    }
+
+
+
+}
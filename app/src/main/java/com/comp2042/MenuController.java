@@ -2,14 +2,9 @@ package com.comp2042;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
 
-import java.net.URL;
-
 public class MenuController {
     
     @FXML
@@ -24,22 +19,13 @@ public class MenuController {
             // Get the current stage
             Stage stage = (Stage) startButton.getScene().getWindow();
             
-            // Load the game layout
-            URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
-            FXMLLoader fxmlLoader = new FXMLLoader(location);
-            Parent root = fxmlLoader.load();
-            GuiController guiController = fxmlLoader.getController();
-            
-            // Create and set the game scene
-            Scene gameScene = new Scene(root, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
-            stage.setScene(gameScene);
-            
-            // Initialize the game controller
-            GameController gameController = new GameController(guiController);
-            
-            // Set up input handler for keyboard input
-            // The InputHandler constructor automatically sets up key listeners
-            new InputHandler(gameScene, gameController, guiController);
+            // Show the cached game layout, preloaded at startup
+            SceneManager.CachedScene gameScene = SceneManager.showCachedScene(stage,
+                    SceneManager.GAME_LAYOUT_FXML, getClass(), MenuController::startGame);
+            if (gameScene == null) {
+                SceneManager.handleTransitionError();
+                return;
+            }
             
             // Set up layout manager for responsive resizing (if needed)
             // LayoutManager layoutManager = new LayoutManager(gameScene);
@@ -50,6 +36,24 @@ public class MenuController {
         }
     }
     
+    /**
+     * Wires a game to the game scene the first time it is shown; afterwards the same
+     * controllers are reused and only the game state is reset.
+     */
+    private static void startGame(SceneManager.CachedScene gameScene) {
+        GuiController guiController = gameScene.getController();
+        if (gameScene.isFirstShow()) {
+            // Initialize the game controller
+            new GameController(guiController);
+            
+            // Set up input handler for keyboard input
+            // The InputHandler constructor automatically sets up key listeners
+            new InputHandler(gameScene.getScene(), guiController);
+        } else {
+            guiController.restartSession();
+        }
+    }
+    
     @FXML
     private void onExitButtonClick(ActionEvent event) {
         Stage stage = (Stage) exitButton.getScene().getWindow();
@@ -0,0 +1,76 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Scene graph renderer: one Rectangle per board cell from {@link BoardDisplayManager},
+ * plus pooled Rectangle nodes for the falling brick and ghost in the same GridPane.
+ */
+public class NodeBoardView implements BoardView {
+
+    private final GridPane gamePanel;
+    private final BoardDisplayManager boardDisplayManager;
+    private final BlockRenderer blockRenderer = new BlockRenderer();
+    private final GameEffects gameEffects = new GameEffects();
+    private BlockNodePool fallingBlock;
+
+    public NodeBoardView(GridPane gamePanel) {
+        this.gamePanel = gamePanel;
+        this.boardDisplayManager = new BoardDisplayManager(gamePanel);
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix) {
+        boardDisplayManager.initialize(boardMatrix);
+        // Falling block nodes go in before the ghost's, so the ghost stays on top as before
+        fallingBlock = BlockNodePool.forGrid(gamePanel, BlockRenderer.BlockStyle.NORMAL);
+        blockRenderer.initializeGhostManagement(gamePanel);
+    }
+
+    @Override
+    public void refreshBackground(int[][] boardMatrix, int firstRow, int lastRow) {
+        // Clear ghost when background refreshes (block locked)
+        blockRenderer.clearGhost();
+        boardDisplayManager.refreshGameBackground(boardMatrix, firstRow, lastRow);
+    }
+
+    @Override
+    public int takeRestyledCellCount() {
+        return boardDisplayManager.takeRestyledCellCount();
+    }
+
+    @Override
+    public void drawBrick(int[][] shape, int xPos, int yPos, int ghostY) {
+        fallingBlock.showOnGrid(shape, xPos, yPos);
+        blockRenderer.drawGhost(shape, xPos, ghostY);
+    }
+
+    @Override
+    public void clearBrick() {
+        if (fallingBlock != null) {
+            fallingBlock.hide();
+        }
+        blockRenderer.clearGhost();
+    }
+
+    @Override
+    public void clearGhost() {
+        blockRenderer.clearGhost();
+    }
+
+    @Override
+    public void animateLock(ViewData lockedBrick) {
+        Rectangle[][] displayMatrix = boardDisplayManager.getDisplayMatrix();
+        if (displayMatrix == null) {
+            return;
+        }
+        gameEffects.animateLockBlock(displayMatrix, lockedBrick.getBrickData(),
+                lockedBrick.getxPosition(), lockedBrick.getyPosition());
+    }
+
+    @Override
+    public void dispose() {
+        // Nodes are released with the scene
+    }
+}
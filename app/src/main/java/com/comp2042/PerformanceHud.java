@@ -0,0 +1,164 @@
+package com.comp2042;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Toggleable overlay with frame, logic tick and input latency statistics.
+ *
+ * <p>Samples go into fixed-size {@link LatencyHistogram}s and the text is rebuilt once per
+ * report interval, so the overlay costs a few array increments per frame while shown and
+ * nothing while hidden. Allocation rate is the JavaFX thread's allocated bytes per second,
+ * read from the JVM's per-thread counters where available.
+ */
+public class PerformanceHud {
+
+    private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final Label label;
+    private final Parent measuredRoot;
+
+    /** Frame intervals up to 100 ms in quarter milliseconds */
+    private final LatencyHistogram frameTimes = new LatencyHistogram(400, 250_000);
+    /** Logic tick durations up to 2 ms in 10 microsecond steps */
+    private final LatencyHistogram tickTimes = new LatencyHistogram(200, 10_000);
+    /** Key press to brick redraw, up to 100 ms in quarter milliseconds */
+    private final LatencyHistogram inputLatency = new LatencyHistogram(400, 250_000);
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final StringBuilder text = new StringBuilder(256);
+
+    private boolean visible;
+    private long lastFrameNanos;
+    private long windowStartNanos;
+    private int framesInWindow;
+    private long restyledCellsInWindow;
+    private long allocatedAtWindowStart;
+
+    /**
+     * @param label The overlay label, hidden until {@link #toggle()}
+     * @param measuredRoot The node whose scene graph size is reported
+     */
+    public PerformanceHud(Label label, Parent measuredRoot) {
+        this.label = label;
+        this.measuredRoot = measuredRoot;
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() ? bean : null;
+        label.setVisible(false);
+    }
+
+    /**
+     * Shows or hides the overlay. Statistics restart each time it is shown.
+     */
+    public void toggle() {
+        visible = !visible;
+        label.setVisible(visible);
+        if (visible) {
+            startWindow(System.nanoTime());
+            lastFrameNanos = 0;
+            label.setText("measuring...");
+        }
+    }
+
+    /**
+     * @return true while shown; callers skip measuring otherwise
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Records the start of a frame, and refreshes the text once per report interval.
+     *
+     * @param now {@link System#nanoTime()} at the start of the frame
+     */
+    public void frameStarted(long now) {
+        if (lastFrameNanos != 0) {
+            frameTimes.record(now - lastFrameNanos);
+        }
+        lastFrameNanos = now;
+        framesInWindow++;
+        if (now - windowStartNanos >= REPORT_INTERVAL_NANOS) {
+            report(now);
+            startWindow(now);
+        }
+    }
+
+    /**
+     * @param nanos Time spent in one logic tick
+     */
+    public void recordTick(long nanos) {
+        tickTimes.record(nanos);
+    }
+
+    /**
+     * @param nanos Time from a key press to the brick being redrawn
+     */
+    public void recordInputLatency(long nanos) {
+        inputLatency.record(nanos);
+    }
+
+    /**
+     * @param cells Board cells restyled or redrawn in the last frame
+     */
+    public void addRestyledCells(int cells) {
+        restyledCellsInWindow += cells;
+    }
+
+    private void startWindow(long now) {
+        windowStartNanos = now;
+        framesInWindow = 0;
+        restyledCellsInWindow = 0;
+        frameTimes.reset();
+        tickTimes.reset();
+        inputLatency.reset();
+        allocatedAtWindowStart = allocatedBytes();
+    }
+
+    private void report(long now) {
+        double seconds = (now - windowStartNanos) / 1e9;
+        text.setLength(0);
+        text.append("FPS        ").append(Math.round(framesInWindow / seconds)).append('\n');
+        appendMs("frame p99  ", frameTimes.getPercentile(99));
+        appendMs("tick p99   ", tickTimes.getPercentile(99));
+        if (inputLatency.getCount() > 0) {
+            appendMs("input p99  ", inputLatency.getPercentile(99));
+        } else {
+            text.append("input p99  -\n");
+        }
+        text.append("nodes      ").append(countNodes(measuredRoot)).append('\n');
+        text.append("pool nodes ").append(BlockNodePool.getCreatedNodeCount()).append('\n');
+        text.append("cells/s    ").append(Math.round(restyledCellsInWindow / seconds)).append('\n');
+        if (threads != null) {
+            long allocated = allocatedBytes() - allocatedAtWindowStart;
+            text.append("alloc      ").append(Math.round(allocated / seconds / 1024)).append(" KB/s\n");
+        }
+        appendMs("hs write   ", HighScoreManager.getMaxFlushNanos());
+        appendMs("switch     ", SceneManager.getLastTransitionNanos());
+        text.setLength(text.length() - 1);
+        label.setText(text.toString());
+    }
+
+    private void appendMs(String name, long nanos) {
+        text.append(name).append(String.format("%.2f", nanos / NANOS_PER_MS)).append(" ms\n");
+    }
+
+    /**
+     * @return Bytes allocated so far by the calling thread, or 0 if the JVM cannot tell
+     */
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static int countNodes(Parent parent) {
+        int count = 1;
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            count += child instanceof Parent childParent ? countNodes(childParent) : 1;
+        }
+        return count;
+    }
+}
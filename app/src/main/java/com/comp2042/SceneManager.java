@@ -0,0 +1,313 @@
+package com.comp2042;
+
+import com.comp2042.jfr.SceneSwitchEvent;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.Node;
+import javafx.stage.Stage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Manages scene navigation and stage transitions for the application.
+ * Handles loading FXML files and switching between scenes.
+ *
+ * <p>The main menu and game layouts are cached: {@link #preload(Class, String...)} reads them
+ * on a background thread at startup, and each is loaded on the JavaFX thread into one
+ * {@link Scene} that is reused for every later transition together with its controller.
+ * Loading stays on the JavaFX thread because it runs the controllers' {@code initialize()},
+ * which loads fonts and sets up timelines. The duration of the latest
+ * transition is kept in {@link #getLastTransitionNanos()}.
+ */
+public class SceneManager {
+    
+    /** FXML of the main menu */
+    public static final String MAIN_MENU_FXML = "mainMenu.fxml";
+    
+    /** FXML of the game screen */
+    public static final String GAME_LAYOUT_FXML = "gameLayout.fxml";
+    
+    /** Scenes built so far, by FXML name. JavaFX thread only. */
+    private static final Map<String, CachedScene> sceneCache = new HashMap<>();
+    
+    /** FXML read in the background and not yet turned into scenes */
+    private static final Map<String, CompletableFuture<byte[]>> preloads = new ConcurrentHashMap<>();
+    
+    private static ExecutorService preloader;
+    
+    private static long lastTransitionNanos;
+    
+    /**
+     * A scene built from an FXML file, kept for reuse along with its controller.
+     */
+    public static final class CachedScene {
+        private final Scene scene;
+        private final Object controller;
+        private boolean shown;
+        
+        private CachedScene(Scene scene, Object controller) {
+            this.scene = scene;
+            this.controller = controller;
+        }
+        
+        public Scene getScene() {
+            return scene;
+        }
+        
+        /**
+         * @param <T> The controller class named in the FXML
+         * @return The controller created with the scene
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getController() {
+            return (T) controller;
+        }
+        
+        /**
+         * @return true until the scene has been shown once; first-time setup such as
+         *         creating a game controller happens then, later shows only reset state
+         */
+        public boolean isFirstShow() {
+            return !shown;
+        }
+    }
+    
+    /**
+     * Starts reading FXML files on a background thread so the first switch to them does not
+     * wait for the disk. Loading them into nodes and controllers stays on the JavaFX thread.
+     * 
+     * @param loaderClass The class to use for resource loading
+     * @param fxmlFileNames The FXML files to read
+     */
+    public static synchronized void preload(Class<?> loaderClass, String... fxmlFileNames) {
+        if (preloader == null) {
+            preloader = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "scene-preloader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        for (String fxmlFileName : fxmlFileNames) {
+            preloads.computeIfAbsent(fxmlFileName,
+                    name -> CompletableFuture.supplyAsync(() -> read(name, loaderClass), preloader));
+        }
+    }
+    
+    /**
+     * Gets the cached scene of an FXML file, building it on first use from the preloaded
+     * FXML if there is one (waiting for it if still being read), or from the resource now.
+     * 
+     * @param fxmlFileName The FXML file
+     * @param loaderClass The class to use for resource loading
+     * @return The cached scene, or null if the FXML could not be loaded
+     */
+    public static CachedScene getCachedScene(String fxmlFileName, Class<?> loaderClass) {
+        CachedScene cached = sceneCache.get(fxmlFileName);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<byte[]> preload = preloads.remove(fxmlFileName);
+        FXMLLoader loader = parse(fxmlFileName, loaderClass, preload != null ? preload.join() : null);
+        if (loader == null) {
+            return null;
+        }
+        cached = new CachedScene(new Scene(loader.getRoot(), GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT),
+                loader.getController());
+        sceneCache.put(fxmlFileName, cached);
+        return cached;
+    }
+    
+    /**
+     * Shows the cached scene of an FXML file on a stage and records how long the switch took.
+     * 
+     * @param stage The stage to switch scenes on
+     * @param fxmlFileName The FXML file
+     * @param loaderClass The class to use for resource loading
+     * @param prepare Called after the scene is set and before the timing ends, e.g. to start
+     *                or reset a game; may be null
+     * @return The shown scene, or null if the FXML could not be loaded
+     */
+    public static CachedScene showCachedScene(Stage stage, String fxmlFileName, Class<?> loaderClass,
+                                              Consumer<CachedScene> prepare) {
+        long start = System.nanoTime();
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.begin();
+        boolean cacheHit = sceneCache.containsKey(fxmlFileName);
+        CachedScene cached = getCachedScene(fxmlFileName, loaderClass);
+        if (cached == null) {
+            return null;
+        }
+        stage.setScene(cached.scene);
+        if (prepare != null) {
+            prepare.accept(cached);
+        }
+        cached.shown = true;
+        lastTransitionNanos = System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.target = fxmlFileName;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+        return cached;
+    }
+    
+    /**
+     * @return Duration of the latest {@link #showCachedScene} in nanoseconds, or 0 before any
+     */
+    public static long getLastTransitionNanos() {
+        return lastTransitionNanos;
+    }
+    
+    /**
+     * Reads an FXML file into memory; safe off the JavaFX thread.
+     * 
+     * @return The file's bytes, or null if it cannot be read (loading then reports the error)
+     */
+    private static byte[] read(String fxmlFileName, Class<?> loaderClass) {
+        try (InputStream in = loaderClass.getClassLoader().getResourceAsStream(fxmlFileName)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Loads an FXML file, keeping the loader for its root and controller. JavaFX thread only.
+     * 
+     * @param preread The file's bytes if already read, or null to read the resource now
+     * @return The loader after loading, or null if loading fails
+     */
+    private static FXMLLoader parse(String fxmlFileName, Class<?> loaderClass, byte[] preread) {
+        URL location = loaderClass.getClassLoader().getResource(fxmlFileName);
+        if (location == null) {
+            System.err.println("FXML file not found: " + fxmlFileName);
+            return null;
+        }
+        try {
+            // The location still resolves relative references when loading from the bytes
+            FXMLLoader fxmlLoader = new FXMLLoader(location);
+            if (preread != null) {
+                fxmlLoader.load(new ByteArrayInputStream(preread));
+            } else {
+                fxmlLoader.load();
+            }
+            return fxmlLoader;
+        } catch (Exception e) {
+            System.err.println("Error loading FXML file: " + fxmlFileName);
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Loads an FXML file and returns the root Parent node.
+     * 
+     * @param fxmlFileName The name of the FXML file (e.g., "mainMenu.fxml")
+     * @param loaderClass The class to use for resource loading (typically the controller class)
+     * @return The loaded Parent node, or null if loading fails
+     */
+    public static Parent loadFXML(String fxmlFileName, Class<?> loaderClass) {
+        FXMLLoader fxmlLoader = parse(fxmlFileName, loaderClass, null);
+        return fxmlLoader == null ? null : fxmlLoader.getRoot();
+    }
+    
+    /**
+     * Gets the Stage from a given Node by traversing up the scene graph.
+     * 
+     * @param node Any node in the scene
+     * @return The Stage containing the node, or null if not found
+     */
+    public static Stage getStage(Node node) {
+        if (node == null) {
+            return null;
+        }
+        
+        Scene scene = node.getScene();
+        if (scene == null) {
+            return null;
+        }
+        
+        return (Stage) scene.getWindow();
+    }
+    
+    /**
+     * Switches the scene on the given stage to the specified FXML file.
+     * 
+     * @param stage The stage to switch scenes on
+     * @param fxmlFileName The name of the FXML file to load
+     * @param loaderClass The class to use for resource loading
+     * @param width The width of the new scene
+     * @param height The height of the new scene
+     * @return true if the scene was successfully switched, false otherwise
+     */
+    public static boolean switchToScene(Stage stage, String fxmlFileName, Class<?> loaderClass, 
+                                        int width, int height) {
+        if (stage == null) {
+            return false;
+        }
+        
+        Parent root = loadFXML(fxmlFileName, loaderClass);
+        if (root == null) {
+            return false;
+        }
+        
+        Scene scene = new Scene(root, width, height);
+        stage.setScene(scene);
+        return true;
+    }
+    
+    /**
+     * Switches the scene on the stage containing the given node to the specified FXML file.
+     * Convenience method that gets the stage from the node automatically.
+     * 
+     * @param node Any node in the current scene
+     * @param fxmlFileName The name of the FXML file to load
+     * @param loaderClass The class to use for resource loading
+     * @param width The width of the new scene
+     * @param height The height of the new scene
+     * @return true if the scene was successfully switched, false otherwise
+     */
+    public static boolean switchToSceneFromNode(Node node, String fxmlFileName, Class<?> loaderClass,
+                                                int width, int height) {
+        Stage stage = getStage(node);
+        if (stage == null) {
+            return false;
+        }
+        return switchToScene(stage, fxmlFileName, loaderClass, width, height);
+    }
+    
+    /**
+     * Switches to the cached main menu scene from the given node.
+     * 
+     * @param node Any node in the current scene
+     * @param loaderClass The class to use for resource loading
+     * @return true if the scene was successfully switched, false otherwise
+     */
+    public static boolean switchToMainMenu(Node node, Class<?> loaderClass) {
+        Stage stage = getStage(node);
+        return stage != null && showCachedScene(stage, MAIN_MENU_FXML, loaderClass, null) != null;
+    }
+    
+    /**
+     * Handles scene transition errors by exiting the application.
+     * Should be called when a critical scene transition fails.
+     */
+    public static void handleTransitionError() {
+        System.err.println("Critical error during scene transition. Exiting application.");
+        Platform.exit();
+    }
+}
+
@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: restyling the settled cells of the board after a change.
+ */
+@Name("com.comp2042.BackgroundRefresh")
+@Label("Background Refresh")
+@Category({"Tetris", "Rendering"})
+@Description("Restyling the settled cells of the board after a change")
+public final class BackgroundRefreshEvent extends Event {
+
+    @Label("Rows Affected")
+    @Description("Rows in the dirty range")
+    public int rowsAffected;
+
+    @Label("Nodes Touched")
+    @Description("Rectangles whose style changed")
+    public int nodesTouched;
+}
@@ -0,0 +1,27 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: drawing the falling brick and the ghost that previews its landing row.
+ * The landing row itself is computed by the engine before this, when it builds the brick's
+ * {@code ViewData}; this event covers only the drawing.
+ */
+@Name("com.comp2042.BrickRender")
+@Label("Brick Render")
+@Category({"Tetris", "Rendering"})
+@Description("Drawing the falling brick and the ghost that previews its landing row")
+public final class BrickRenderEvent extends Event {
+
+    @Label("Ghost Row")
+    @Description("Board row the ghost is drawn at")
+    public int ghostRow;
+
+    @Label("Drop Distance")
+    @Description("Rows between the brick and its ghost")
+    public int dropDistance;
+}
@@ -0,0 +1,21 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: one automatic down move, including any lock and line clear it causes.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris", "Game Loop"})
+@Description("One automatic down move, including any lock and line clear it causes")
+public final class GravityTickEvent extends Event {
+
+    @Label("Locked")
+    @Description("Whether the move locked the brick")
+    public boolean locked;
+}
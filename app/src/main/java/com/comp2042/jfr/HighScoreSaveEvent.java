@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: writing the high score file.
+ */
+@Name("com.comp2042.HighScoreSave")
+@Label("High Score Save")
+@Category({"Tetris", "Persistence"})
+@Description("Writing the high score file")
+public final class HighScoreSaveEvent extends Event {
+
+    @Label("Score")
+    @Description("The score written")
+    public int score;
+
+    @Label("Success")
+    @Description("Whether the file was replaced")
+    public boolean success;
+}
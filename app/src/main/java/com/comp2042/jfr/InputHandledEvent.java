@@ -0,0 +1,27 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event: one queued key event applied to the game.
+ */
+@Name("com.comp2042.InputHandled")
+@Label("Input Handled")
+@Category({"Tetris", "Input"})
+@Description("One queued key event applied to the game")
+public final class InputHandledEvent extends Event {
+
+    @Label("Input")
+    @Description("The input, e.g. LEFT or HARD_DROP")
+    public String input;
+
+    @Label("Queue Delay")
+    @Description("Time from the key event to the game loop applying it")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueDelay;
+}
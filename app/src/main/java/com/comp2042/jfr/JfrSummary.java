@@ -0,0 +1,111 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the game events of a flight recording into a per-phase latency table.
+ *
+ * <p>Usage: {@code java -cp <app classes> com.comp2042.jfr.JfrSummary recording.jfr}
+ *
+ * <p>For every {@code com.comp2042.*} event type it prints the count, duration percentiles
+ * and total, and the average of the {@code rowsAffected} and {@code nodesTouched} fields
+ * where the event has them. A recording is made with the settings in
+ * {@code app/src/main/jfr/tetris.jfc}, e.g. through {@code mvn -pl app javafx:run@profile}.
+ */
+public final class JfrSummary {
+
+    private static final String EVENT_PREFIX = "com.comp2042.";
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrSummary <recording.jfr>");
+            System.exit(2);
+        }
+        Map<String, Phase> phases = new TreeMap<>();
+        try (RecordingFile recording = new RecordingFile(Path.of(args[0]))) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (name.startsWith(EVENT_PREFIX)) {
+                    phases.computeIfAbsent(name.substring(EVENT_PREFIX.length()), n -> new Phase()).add(event);
+                }
+            }
+        }
+        if (phases.isEmpty()) {
+            System.out.println("No game events in " + args[0]);
+            return;
+        }
+        System.out.printf("%-18s %8s %10s %10s %10s %10s %12s %8s %8s%n",
+                "phase", "count", "p50 ms", "p99 ms", "max ms", "total ms", "events/s", "rows", "nodes");
+        for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+            entry.getValue().print(entry.getKey());
+        }
+    }
+
+    /**
+     * Durations and field totals of one event type.
+     */
+    private static final class Phase {
+        private long[] durations = new long[256];
+        private int count;
+        private long firstNanos = Long.MAX_VALUE;
+        private long lastNanos = Long.MIN_VALUE;
+        private long rows;
+        private long nodes;
+        private boolean hasRows;
+        private boolean hasNodes;
+
+        void add(RecordedEvent event) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = event.getDuration().toNanos();
+            long start = event.getStartTime().getEpochSecond() * 1_000_000_000L + event.getStartTime().getNano();
+            firstNanos = Math.min(firstNanos, start);
+            lastNanos = Math.max(lastNanos, start);
+            for (ValueDescriptor field : event.getFields()) {
+                if (field.getName().equals("rowsAffected")) {
+                    rows += event.getInt("rowsAffected");
+                    hasRows = true;
+                } else if (field.getName().equals("nodesTouched")) {
+                    nodes += event.getInt("nodesTouched");
+                    hasNodes = true;
+                }
+            }
+        }
+
+        void print(String name) {
+            Arrays.sort(durations, 0, count);
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += durations[i];
+            }
+            double seconds = (lastNanos - firstNanos) / 1e9;
+            System.out.printf("%-18s %8d %10.3f %10.3f %10.3f %10.1f %12s %8s %8s%n",
+                    name, count, ms(percentile(50)), ms(percentile(99)), ms(durations[count - 1]), ms(total),
+                    seconds > 0 ? String.format("%.1f", count / seconds) : "-",
+                    hasRows ? String.format("%.1f", (double) rows / count) : "-",
+                    hasNodes ? String.format("%.1f", (double) nodes / count) : "-");
+        }
+
+        private long percentile(double percentile) {
+            int index = (int) Math.ceil(count * percentile / 100) - 1;
+            return durations[Math.max(0, Math.min(index, count - 1))];
+        }
+
+        private static double ms(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
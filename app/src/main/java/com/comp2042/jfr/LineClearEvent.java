@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: rows removed after a brick locked.
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"Tetris", "Game Loop"})
+@Description("Rows removed after a brick locked")
+public final class LineClearEvent extends Event {
+
+    @Label("Rows Affected")
+    @Description("Number of rows cleared")
+    public int rowsAffected;
+
+    @Label("Score Bonus")
+    @Description("Points awarded for the clear")
+    public int scoreBonus;
+}
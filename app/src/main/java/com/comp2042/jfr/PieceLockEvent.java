@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: a brick locked into the board.
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"Tetris", "Game Loop"})
+@Description("A brick locked into the board")
+public final class PieceLockEvent extends Event {
+
+    @Label("Column")
+    @Description("Board column of the brick's top left cell")
+    public int column;
+
+    @Label("Row")
+    @Description("Board row of the brick's top left cell")
+    public int row;
+}
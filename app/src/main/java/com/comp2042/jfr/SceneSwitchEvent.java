@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event: replacing the window's scene.
+ */
+@Name("com.comp2042.SceneSwitch")
+@Label("Scene Switch")
+@Category({"Tetris", "User Interface"})
+@Description("Replacing the window's scene")
+public final class SceneSwitchEvent extends Event {
+
+    @Label("Target")
+    @Description("Layout switched to")
+    public String target;
+
+    @Label("Cache Hit")
+    @Description("Whether the scene was reused instead of built")
+    public boolean cacheHit;
+}
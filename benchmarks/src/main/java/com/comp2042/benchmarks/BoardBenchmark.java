@@ -0,0 +1,74 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.Board;
+import com.comp2042.BoardType;
+import com.comp2042.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movement and collision on a board that does not change: the falling brick is moved
+ * and rotated, but never locked, so every invocation sees the same fixture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"SIMPLE", "BITBOARD", "RING"})
+    public BoardType boardType;
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT"})
+    public BoardFixture fixture;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = boardType.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+        fixture.apply(board);
+    }
+
+    /** One step left and one back, so the brick stays put between invocations */
+    @Benchmark
+    public void shiftLeftRight(Blackhole blackhole) {
+        blackhole.consume(board.moveBrickLeft());
+        blackhole.consume(board.moveBrickRight());
+    }
+
+    @Benchmark
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    /** Soft-drops the brick from spawn to the stack, one row at a time */
+    @Benchmark
+    public int softDropToStack() {
+        board.setBrick(board.getCurrentBrick(), board.getCurrentRotation());
+        int rows = 0;
+        while (board.moveBrickDown()) {
+            rows++;
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public int landingY() {
+        return board.getLandingY();
+    }
+}
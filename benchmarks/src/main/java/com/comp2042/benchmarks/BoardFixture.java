@@ -0,0 +1,119 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.Board;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickOrientation;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Random;
+
+/**
+ * Reproducible board states for benchmarks.
+ * Boards are filled through the public {@link Board} API by dropping each brick on the
+ * lowest spot available, leaving the rightmost column open as a well so no rows clear
+ * and the stack keeps growing towards the requested height.
+ */
+public enum BoardFixture {
+
+    EMPTY(0),
+    HALF_FULL(12),
+    NEAR_TOP_OUT(19);
+
+    private static final long SEED = 2042L;
+
+    /** Color code of the T brick, used where a benchmark needs one fixed shape */
+    private static final int T_BRICK_COLOR = 6;
+
+    private final int stackHeight;
+
+    BoardFixture(int stackHeight) {
+        this.stackHeight = stackHeight;
+    }
+
+    /**
+     * Resets the board and fills it to this fixture's stack height.
+     * A fresh brick is left at the spawn position.
+     *
+     * @param board The board to fill
+     */
+    public void apply(Board board) {
+        Random random = new Random(SEED);
+        board.newGame();
+        while (maxHeight(board) < stackHeight) {
+            place(board, random);
+            if (board.createNewBrick()) {
+                throw new IllegalStateException("Board topped out while building " + this);
+            }
+        }
+    }
+
+    /**
+     * @return A fresh T brick, for benchmarks that need a fixed shape
+     */
+    public static Brick tBrick() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        while (true) {
+            Brick brick = generator.getBrick();
+            if (brick.getRotationTable().getOrientation(0).getColor() == T_BRICK_COLOR) {
+                return brick;
+            }
+        }
+    }
+
+    private static void place(Board board, Random random) {
+        Brick brick = board.getCurrentBrick();
+        int columns = board.getBoardMatrix()[0].length;
+        int bestRotation = 0;
+        int bestX = 0;
+        int bestY = -1;
+        for (int rotation = 0; rotation < brick.getRotationTable().getRotationCount(); rotation++) {
+            BrickOrientation orientation = brick.getRotationTable().getOrientation(rotation);
+            // Keep the last column free so rows never complete
+            for (int x = -orientation.getMinX(); x + orientation.getMaxX() < columns - 1; x++) {
+                board.setBrick(brick, rotation);
+                if (!shiftTo(board, x)) {
+                    continue;
+                }
+                int y = board.getLandingY();
+                if (y > bestY || (y == bestY && random.nextBoolean())) {
+                    bestRotation = rotation;
+                    bestX = x;
+                    bestY = y;
+                }
+            }
+        }
+        board.setBrick(brick, bestRotation);
+        shiftTo(board, bestX);
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        board.clearRows();
+    }
+
+    private static boolean shiftTo(Board board, int x) {
+        ViewData viewData = board.getViewData();
+        int current = viewData.getxPosition();
+        while (current > x) {
+            if (!board.moveBrickLeft()) {
+                return false;
+            }
+            current--;
+        }
+        while (current < x) {
+            if (!board.moveBrickRight()) {
+                return false;
+            }
+            current++;
+        }
+        return true;
+    }
+
+    private static int maxHeight(Board board) {
+        int columns = board.getBoardMatrix()[0].length;
+        int max = 0;
+        for (int column = 0; column < columns; column++) {
+            max = Math.max(max, board.getColumnHeight(column));
+        }
+        return max;
+    }
+}
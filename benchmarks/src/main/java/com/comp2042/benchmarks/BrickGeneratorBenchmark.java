@@ -0,0 +1,68 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing and peeking bricks from the 7-bag generators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickGeneratorBenchmark {
+
+    @Param({"RANDOM", "SEVEN_BAG"})
+    public String generatorType;
+
+    private BrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = "SEVEN_BAG".equals(generatorType)
+                ? new SevenBagGenerator(42L)
+                : new RandomBrickGenerator();
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public Brick peekNext() {
+        return generator.getNextBrick();
+    }
+
+    @Benchmark
+    public Brick peekSecondNext() {
+        return generator.getSecondNextBrick();
+    }
+
+    @Benchmark
+    public Brick peekThirdNext() {
+        return generator.getThirdNextBrick();
+    }
+
+    @Benchmark
+    public Brick peekDeep() {
+        return generator.peekBrick(5);
+    }
+}
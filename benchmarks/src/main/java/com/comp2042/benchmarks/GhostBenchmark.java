@@ -0,0 +1,65 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.BoardType;
+import com.comp2042.GameConstants;
+import com.comp2042.GameEngine;
+import com.comp2042.MatrixOperations;
+import com.comp2042.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ghost (landing row) computation as the UI asks for it on every refresh.
+ * {@code scanGhostY} keeps the original row-by-row simulation as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostBenchmark {
+
+    @Param({"SIMPLE", "BITBOARD", "RING"})
+    public BoardType boardType;
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT"})
+    public BoardFixture fixture;
+
+    private GameEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(boardType.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH));
+        engine.createNewGame();
+        fixture.apply(engine.getBoard());
+    }
+
+    @Benchmark
+    public int calculateGhostY() {
+        return engine.calculateGhostY();
+    }
+
+    @Benchmark
+    public int scanGhostY() {
+        ViewData view = engine.getViewData();
+        int[][] boardMatrix = engine.getBoardMatrix();
+        int[][] brickShape = view.getBrickData();
+        int ghostY = view.getyPosition();
+        while (!MatrixOperations.intersect(boardMatrix, brickShape, view.getxPosition(), ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.Board;
+import com.comp2042.BoardType;
+import com.comp2042.ClearRow;
+import com.comp2042.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full piece life cycle: spawn, a few moves and a rotation, hard drop, merge and clear.
+ * The board starts a new game whenever it tops out, so the stack height cycles the way
+ * it does in a long simulated game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockCycleBenchmark {
+
+    @Param({"SIMPLE", "BITBOARD", "RING"})
+    public BoardType boardType;
+
+    private Board board;
+    private int placed;
+
+    @Setup
+    public void setUp() {
+        board = boardType.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+        board.newGame();
+    }
+
+    @Benchmark
+    public ClearRow lockCycle() {
+        // Spread pieces across the board so rows do complete from time to time
+        int shift = placed++ % 9 - 4;
+        if (placed % 2 == 0) {
+            board.rotateLeftBrick();
+        }
+        for (int i = 0; i < shift; i++) {
+            board.moveBrickRight();
+        }
+        for (int i = 0; i > shift; i--) {
+            board.moveBrickLeft();
+        }
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+        return clearRow;
+    }
+
+    /** A cheese race: one garbage row is pushed in under the stack before every piece */
+    @Benchmark
+    public ClearRow lockCycleWithGarbage() {
+        if (board.addGarbageRows(1, placed % GameConstants.BOARD_WIDTH)) {
+            board.newGame();
+        }
+        return lockCycle();
+    }
+}
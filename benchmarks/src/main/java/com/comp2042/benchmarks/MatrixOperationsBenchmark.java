@@ -0,0 +1,75 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.Board;
+import com.comp2042.BoardType;
+import com.comp2042.ClearRow;
+import com.comp2042.GameConstants;
+import com.comp2042.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The int[][] primitives in {@link MatrixOperations}, run against realistic boards.
+ * The brick is a T placed on its landing row in the spawn column, which is the deepest
+ * (and most expensive) position a collision check normally sees.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT"})
+    public BoardFixture fixture;
+
+    private int[][] matrix;
+    private int[][] brick;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        Board board = BoardType.SIMPLE.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+        fixture.apply(board);
+        matrix = MatrixOperations.copy(board.getBoardMatrix());
+        brick = BoardFixture.tBrick().getShapeMatrix().get(0);
+        x = 4;
+        y = 0;
+        while (!MatrixOperations.intersect(matrix, brick, x, y + 1)) {
+            y++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, brick, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brick, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,195 @@
+package com.comp2042;
+
+/**
+ * Delayed Auto Shift (DAS) and Auto Repeat Rate (ARR) for held movement keys,
+ * driven by {@link GameClock} ticks instead of the operating system's key repeat.
+ *
+ * <p>Pressing left or right moves once immediately. While the key stays held, the brick
+ * moves again after the DAS delay and then every ARR ticks; an ARR of 0 slides it to the
+ * wall in a single tick. When both directions are held the most recent one wins.
+ * A held soft drop repeats every soft drop interval. Rotate, hold and hard drop are not
+ * repeated here; the caller sends them once per press.
+ */
+public final class AutoShift {
+
+    private static final MoveEvent LEFT_EVENT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT_EVENT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent DOWN_EVENT = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final InputEventListener target;
+    private final int dasTicks;
+    private final int arrTicks;
+    private final int softDropTicks;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private boolean downHeld;
+
+    /** -1 left, 1 right, 0 when neither is held */
+    private int direction;
+    /** Ticks the current direction has been held */
+    private int chargeTicks;
+    private int softDropCounter;
+
+    /**
+     * @param target Receives the generated moves
+     * @param dasTicks Ticks a direction is held before it repeats
+     * @param arrTicks Ticks between repeats, or 0 to move to the wall at once
+     * @param softDropTicks Ticks between repeated soft drops
+     */
+    public AutoShift(InputEventListener target, int dasTicks, int arrTicks, int softDropTicks) {
+        this.target = target;
+        this.dasTicks = Math.max(1, dasTicks);
+        this.arrTicks = Math.max(0, arrTicks);
+        this.softDropTicks = Math.max(1, softDropTicks);
+    }
+
+    /**
+     * Creates an auto shift with the DAS and ARR from {@link GameConstants#DAS_PROPERTY} and
+     * {@link GameConstants#ARR_PROPERTY} (milliseconds), or the defaults.
+     *
+     * @param target Receives the generated moves
+     * @return The configured auto shift
+     */
+    public static AutoShift fromSystemProperties(InputEventListener target) {
+        int dasMs = Integer.getInteger(GameConstants.DAS_PROPERTY, GameConstants.DEFAULT_DAS_MS);
+        int arrMs = Integer.getInteger(GameConstants.ARR_PROPERTY, GameConstants.DEFAULT_ARR_MS);
+        return new AutoShift(target, msToTicks(dasMs), msToTicks(arrMs),
+                msToTicks(GameConstants.SOFT_DROP_INTERVAL_MS));
+    }
+
+    /**
+     * @param ms A duration in milliseconds
+     * @return The nearest whole number of logic ticks
+     */
+    public static int msToTicks(int ms) {
+        return Math.round(ms * (float) GameConstants.LOGIC_TICKS_PER_SECOND / 1000);
+    }
+
+    /**
+     * Handles a key press of LEFT, RIGHT or DOWN; other types are ignored.
+     *
+     * @param type The pressed direction
+     * @return true if the brick moved; the new state is {@link #getViewData()}
+     */
+    public boolean press(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = true;
+                startCharging(-1);
+                return shift(-1);
+            case RIGHT:
+                rightHeld = true;
+                startCharging(1);
+                return shift(1);
+            case DOWN:
+                downHeld = true;
+                softDropCounter = 0;
+                return softDrop();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Handles a key release of LEFT, RIGHT or DOWN. Releasing the active direction while
+     * the other is still held starts charging the other one.
+     *
+     * @param type The released direction
+     */
+    public void release(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = false;
+                if (direction < 0) {
+                    startCharging(rightHeld ? 1 : 0);
+                }
+                break;
+            case RIGHT:
+                rightHeld = false;
+                if (direction > 0) {
+                    startCharging(leftHeld ? -1 : 0);
+                }
+                break;
+            case DOWN:
+                downHeld = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Forgets all held keys, e.g. when the game is paused or the window loses focus.
+     */
+    public void releaseAll() {
+        leftHeld = false;
+        rightHeld = false;
+        downHeld = false;
+        startCharging(0);
+    }
+
+    /**
+     * Advances held keys by one logic tick.
+     *
+     * @return true if the brick moved; the new state is {@link #getViewData()}
+     */
+    public boolean tick() {
+        boolean moved = false;
+        if (direction != 0) {
+            chargeTicks++;
+            if (chargeTicks >= dasTicks) {
+                if (arrTicks == 0) {
+                    moved = slideToWall(direction);
+                } else if ((chargeTicks - dasTicks) % arrTicks == 0) {
+                    moved = shift(direction);
+                }
+            }
+        }
+        if (downHeld && ++softDropCounter >= softDropTicks) {
+            softDropCounter = 0;
+            moved |= softDrop();
+        }
+        return moved;
+    }
+
+    /**
+     * Reads the falling brick from the target, so moves that were repeated many times in a
+     * tick build its view only once.
+     *
+     * @return The brick after the latest move, or null if the game ended
+     */
+    public ViewData getViewData() {
+        return target.getViewData();
+    }
+
+    private void startCharging(int newDirection) {
+        direction = newDirection;
+        chargeTicks = 0;
+    }
+
+    /**
+     * @return true if the brick moved one column; false if it was blocked or the game is over
+     */
+    private boolean shift(int dir) {
+        return target.onShiftEvent(dir < 0 ? LEFT_EVENT : RIGHT_EVENT);
+    }
+
+    /**
+     * Shifts until the brick is blocked, so the board's own width bounds the slide.
+     */
+    private boolean slideToWall(int dir) {
+        boolean moved = false;
+        while (shift(dir)) {
+            moved = true;
+        }
+        return moved;
+    }
+
+    /**
+     * @return false once the game is over, so a held key stops reporting moves
+     */
+    private boolean softDrop() {
+        return target.onDownEvent(DOWN_EVENT).getViewData() != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+/**
+ * Board implementation that stores every row of the playfield as a bitmask.
+ * Bit {@code c} of a row's mask is set when cell (r, c) is occupied, so collision
+ * tests are a shift and an AND per brick row, and a full row is a single mask compare
+ * on boards up to 64 columns wide. Colors live in a separate compact plane that is only
+ * touched on merge and line clear.
+ *
+ * <p>Rows are stored top to bottom. A line clear moves the rows above the cleared rows down,
+ * and garbage moves every row up.
+ */
+public class BitBoard extends MaskBoard {
+
+    /**
+     * Creates a new bitboard that deals from a clock-seeded {@link SevenBagGenerator}.
+     *
+     * @param rows Number of rows on the board (including hidden rows)
+     * @param columns Number of columns on the board
+     */
+    public BitBoard(int rows, int columns) {
+        this(rows, columns, new SevenBagGenerator());
+    }
+
+    /**
+     * Creates a bitboard that deals bricks from the given generator,
+     * e.g. a seeded {@link SevenBagGenerator} for reproducible games.
+     */
+    public BitBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        super(rows, columns, brickGenerator);
+    }
+}
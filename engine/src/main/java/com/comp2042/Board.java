@@ -0,0 +1,122 @@
+package com.comp2042;
+
+public interface Board {
+
+    boolean moveBrickDown();
+
+    boolean moveBrickLeft();
+
+    boolean moveBrickRight();
+
+    boolean rotateLeftBrick();
+
+    boolean createNewBrick();
+
+    /**
+     * The settled blocks, by row and column, as color ids (0 for empty). The array is owned by
+     * the board and may share rows with snapshots, so callers must treat it as read-only;
+     * copy it, e.g. with {@link MatrixOperations#copy(int[][])}, before changing it.
+     *
+     * @return The board's matrix, valid until the board next changes
+     */
+    int[][] getBoardMatrix();
+
+    ViewData getViewData();
+
+    void mergeBrickToBackground();
+
+    ClearRow clearRows();
+
+    Score getScore();
+
+    void newGame();
+
+    int[][] getSecondNextBrickData();
+
+    int[][] getThirdNextBrickData();
+
+    boolean setBrick(com.comp2042.logic.bricks.Brick brick, int rotation);
+
+    /**
+     * Computes the Y position the current brick would land on if dropped straight down.
+     */
+    int getLandingY();
+
+    /**
+     * Moves the current brick straight down to its landing row.
+     *
+     * @return The number of rows the brick moved
+     */
+    int hardDrop();
+
+    /**
+     * @return The height of the stack in a column: 0 when empty, the number of rows when full to the top
+     */
+    int getColumnHeight(int column);
+
+    /**
+     * Aggregate features of the settled blocks (heights, holes, wells, bumpiness, row
+     * transitions), kept up to date by the board as it changes.
+     *
+     * @return A read-only view that stays current; the same instance for the board's lifetime
+     */
+    BoardStats getStats();
+
+    /**
+     * Pushes garbage rows in from the bottom, as in cheese and versus modes. Every row moves up
+     * by {@code count} and the new bottom rows are filled except for {@code holeColumn}. The
+     * falling brick is lifted by up to {@code count} rows if the stack now overlaps it.
+     *
+     * @param count Rows to insert
+     * @param holeColumn The empty column of every inserted row
+     * @return true if the stack topped out: blocks were pushed off the top of the board,
+     *         or the falling brick could not be lifted clear of the stack
+     */
+    boolean addGarbageRows(int count, int holeColumn);
+
+    /**
+     * Rows whose settled blocks changed since the last {@link #clearDirtyRows()}: merged rows,
+     * rows shifted by a line clear, or every row after a new game.
+     *
+     * @return The first (topmost) changed row, or the row count when nothing changed
+     */
+    int getDirtyTop();
+
+    /**
+     * @return The last (bottommost) changed row, or -1 when nothing changed
+     */
+    int getDirtyBottom();
+
+    /**
+     * Marks every row as clean, typically once a view has redrawn the changed rows.
+     */
+    void clearDirtyRows();
+
+    /**
+     * @return The generator this board deals bricks from
+     */
+    com.comp2042.logic.bricks.BrickGenerator getBrickGenerator();
+
+    com.comp2042.logic.bricks.Brick getCurrentBrick();
+
+    int getCurrentRotation();
+
+    /**
+     * Captures the settled blocks, the falling brick, the score and the generator's position.
+     * Rows are shared with the board until it next changes them, so this costs one reference
+     * per row rather than a copy of the matrix.
+     *
+     * @return An immutable snapshot for {@link #restore(BoardSnapshot)}
+     * @throws UnsupportedOperationException if the board's generator cannot seek, so a restore
+     *         could not deal the same bricks again
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Puts the board back into a captured state. Every row is reported dirty afterwards.
+     *
+     * @param snapshot A snapshot taken from a board of the same kind and size
+     * @throws IllegalArgumentException if the snapshot came from another kind or size of board
+     */
+    void restore(BoardSnapshot snapshot);
+}
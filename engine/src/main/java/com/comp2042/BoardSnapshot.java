@@ -0,0 +1,80 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Immutable state of a {@link Board} at one moment: the settled blocks, the falling brick
+ * with its rotation and position, the score and the generator's position in its sequence.
+ *
+ * <p>Each board keeps its rows copy-on-write: a snapshot holds references to the board's row
+ * arrays rather than copies, and the board copies a row only when it next writes to it. Taking
+ * a snapshot therefore copies one reference per row, and consecutive snapshots share every row
+ * that did not change between them. A snapshot can only be restored into the kind of board it
+ * was taken from, and only boards whose generator can seek can be snapshotted, so a restored
+ * board deals the same bricks again.
+ */
+public abstract class BoardSnapshot {
+
+    private final Brick brick;
+    private final int rotation;
+    private final int offsetX;
+    private final int offsetY;
+    private final int score;
+    private final long generatorPosition;
+
+    BoardSnapshot(Brick brick, int rotation, int offsetX, int offsetY, int score, BrickGenerator generator) {
+        this.brick = brick;
+        this.rotation = rotation;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.score = score;
+        this.generatorPosition = generator.getPosition();
+        if (generatorPosition < 0) {
+            throw new UnsupportedOperationException("Snapshots need a generator that can seek, not "
+                    + generator.getClass().getSimpleName());
+        }
+    }
+
+    public Brick getBrick() {
+        return brick;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Index of the next brick the generator deals
+     */
+    public long getGeneratorPosition() {
+        return generatorPosition;
+    }
+
+    /**
+     * Moves the generator back to the recorded position.
+     */
+    void restoreGenerator(BrickGenerator generator) {
+        generator.seek(generatorPosition);
+    }
+
+    /**
+     * Sets the score to the recorded value.
+     */
+    void restoreScore(Score target) {
+        target.reset();
+        target.add(score);
+    }
+}
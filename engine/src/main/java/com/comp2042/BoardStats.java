@@ -0,0 +1,286 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+/**
+ * Read-only view of the aggregate features of a board's settled blocks, as used by bots and
+ * analytics: column heights, holes, well depths, row transitions and bumpiness.
+ *
+ * <p>The owning board keeps the features up to date as it changes, so reading them is O(1)
+ * instead of a scan of {@link Board#getBoardMatrix()}. A merge updates only the brick's
+ * columns and their neighbours and the brick's rows; a line clear or garbage row updates each
+ * column once. Holes need no scan at all: a column's holes are its height minus its filled
+ * cells, and full rows have no holes, so clearing them leaves every column's holes unchanged.
+ *
+ * <p>Nothing here depends on the board's width: rows are read cell by cell through {@link Cells},
+ * so the stats work for boards of any size.
+ */
+public final class BoardStats {
+
+    /**
+     * How the stats read the owning board's settled blocks, by logical row (0 is the top).
+     */
+    interface Cells {
+
+        boolean isFilled(int row, int column);
+
+        /**
+         * @return Filled cells in a row
+         */
+        int rowFill(int row);
+    }
+
+    private final int rows;
+    private final int columns;
+    /** The board's own skyline array; only read here */
+    private final int[] heights;
+    private final Cells cells;
+
+    /** Heights as of the last update, to turn changed heights into deltas */
+    private final int[] knownHeights;
+    private final int[] filled;
+    private final int[] wellDepths;
+    private int totalFilled;
+    private int aggregateHeight;
+    private int bumpiness;
+    private int wellSum;
+    private int rowTransitions;
+
+    /**
+     * @param columnHeights The board's skyline array, which the board keeps current
+     * @param cells Reads the board's settled blocks
+     */
+    BoardStats(int rows, int columns, int[] columnHeights, Cells cells) {
+        this.rows = rows;
+        this.columns = columns;
+        this.heights = columnHeights;
+        this.cells = cells;
+        knownHeights = new int[columns];
+        filled = new int[columns];
+        wellDepths = new int[columns];
+    }
+
+    /**
+     * @return Height of the stack in a column: 0 when empty, the number of rows when full to the top
+     */
+    public int getColumnHeight(int column) {
+        return heights[column];
+    }
+
+    /**
+     * @return Sum of the column heights
+     */
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * @return Empty cells below the top filled cell of a column
+     */
+    public int getColumnHoles(int column) {
+        return heights[column] - filled[column];
+    }
+
+    /**
+     * @return Empty cells below the top filled cell of their column, over all columns
+     */
+    public int getHoles() {
+        return aggregateHeight - totalFilled;
+    }
+
+    /**
+     * @return Filled cells on the board
+     */
+    public int getFilledCells() {
+        return totalFilled;
+    }
+
+    /**
+     * @return How far a column lies below the lower of its neighbours, or 0 if it is not a well.
+     *         The walls count as infinitely high.
+     */
+    public int getWellDepth(int column) {
+        return wellDepths[column];
+    }
+
+    /**
+     * @return Sum of the well depths of all columns
+     */
+    public int getWellSum() {
+        return wellSum;
+    }
+
+    /**
+     * @return Sum of the height differences between adjacent columns
+     */
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * Counts changes between filled and empty cells along each row, with the walls counting as
+     * filled. Empty rows are not counted, so an empty board has none.
+     *
+     * @return Row transitions summed over all rows
+     */
+    public int getRowTransitions() {
+        return rowTransitions;
+    }
+
+    /**
+     * @return true if the cell holds a settled block
+     */
+    public boolean isFilled(int row, int column) {
+        return cells.isFilled(row, column);
+    }
+
+    /**
+     * @return Filled cells in a row; the row is full when this equals {@link #getColumns()}
+     */
+    public int getRowFill(int row) {
+        return cells.rowFill(row);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Row transitions of one row, with the walls counting as filled; 0 for an empty row.
+     */
+    private int transitions(int row) {
+        int fill = cells.rowFill(row);
+        if (fill == 0 || fill == columns) {
+            return 0;
+        }
+        int count = 0;
+        boolean previous = true;
+        for (int column = 0; column < columns; column++) {
+            boolean filled = cells.isFilled(row, column);
+            if (filled != previous) {
+                count++;
+                previous = filled;
+            }
+        }
+        return previous ? count : count + 1;
+    }
+
+    /**
+     * A merge filled a cell in this column.
+     */
+    void cellAdded(int column) {
+        filled[column]++;
+        totalFilled++;
+    }
+
+    /**
+     * A merge is about to write to this row; call {@link #rowChanged(int)} once it has.
+     */
+    void rowChanging(int row) {
+        rowTransitions -= transitions(row);
+    }
+
+    /**
+     * A merge wrote to this row.
+     */
+    void rowChanged(int row) {
+        rowTransitions += transitions(row);
+    }
+
+    /**
+     * Full rows were removed. Full rows have no row transitions and no holes, so only the
+     * filled counts and the heights change.
+     */
+    void rowsCleared(int count) {
+        for (int column = 0; column < columns; column++) {
+            filled[column] -= count;
+        }
+        totalFilled -= count * columns;
+        columnsChanged(0, columns - 1);
+    }
+
+    /**
+     * Rows were pushed in from the bottom without topping out, so no filled row was lost.
+     * The bottom row must already be one of the new garbage rows.
+     */
+    void garbageAdded(int count, int holeColumn) {
+        for (int column = 0; column < columns; column++) {
+            if (column != holeColumn) {
+                filled[column] += count;
+            }
+        }
+        totalFilled += count * (columns - 1);
+        rowTransitions += count * transitions(rows - 1);
+        columnsChanged(0, columns - 1);
+    }
+
+    /**
+     * Brings the height-based features in step after the heights of columns
+     * {@code first} to {@code last} changed. Only those columns and their neighbours are read.
+     */
+    void columnsChanged(int first, int last) {
+        for (int column = first; column <= last; column++) {
+            aggregateHeight += heights[column] - knownHeights[column];
+        }
+        int from = Math.max(1, first);
+        int to = Math.min(columns - 1, last + 1);
+        for (int column = from; column <= to; column++) {
+            bumpiness += Math.abs(heights[column] - heights[column - 1])
+                    - Math.abs(knownHeights[column] - knownHeights[column - 1]);
+        }
+        for (int column = first; column <= last; column++) {
+            knownHeights[column] = heights[column];
+        }
+        for (int column = Math.max(0, first - 1); column <= Math.min(columns - 1, last + 1); column++) {
+            int depth = wellDepth(column);
+            wellSum += depth - wellDepths[column];
+            wellDepths[column] = depth;
+        }
+    }
+
+    private int wellDepth(int column) {
+        int left = column == 0 ? Integer.MAX_VALUE : heights[column - 1];
+        int right = column == columns - 1 ? Integer.MAX_VALUE : heights[column + 1];
+        int walls = Math.min(left, right);
+        return walls == Integer.MAX_VALUE ? 0 : Math.max(0, walls - heights[column]);
+    }
+
+    /**
+     * Recomputes every feature from the cells, after a new game, a restore or a top-out.
+     */
+    void rebuild() {
+        Arrays.fill(filled, 0);
+        totalFilled = 0;
+        rowTransitions = 0;
+        for (int row = 0; row < rows; row++) {
+            if (cells.rowFill(row) == 0) {
+                continue;
+            }
+            rowTransitions += transitions(row);
+            for (int column = 0; column < columns; column++) {
+                if (cells.isFilled(row, column)) {
+                    filled[column]++;
+                    totalFilled++;
+                }
+            }
+        }
+        aggregateHeight = 0;
+        bumpiness = 0;
+        wellSum = 0;
+        for (int column = 0; column < columns; column++) {
+            knownHeights[column] = heights[column];
+            aggregateHeight += heights[column];
+            if (column > 0) {
+                bumpiness += Math.abs(heights[column] - heights[column - 1]);
+            }
+        }
+        for (int column = 0; column < columns; column++) {
+            wellDepths[column] = wellDepth(column);
+            wellSum += wellDepths[column];
+        }
+    }
+}
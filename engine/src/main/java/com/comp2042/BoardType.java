@@ -0,0 +1,75 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+/**
+ * Available board engine implementations.
+ * The engine is chosen at startup with {@code -Dtetris.board=simple|bitboard|ring}.
+ */
+public enum BoardType {
+
+    /** Reference implementation backed by an int[][] matrix */
+    SIMPLE {
+        @Override
+        public Board create(int rows, int columns, BrickGenerator brickGenerator) {
+            return new SimpleBoard(rows, columns, brickGenerator);
+        }
+    },
+
+    /** Row bitmask implementation for fast collision and line clear checks */
+    BITBOARD {
+        @Override
+        public Board create(int rows, int columns, BrickGenerator brickGenerator) {
+            return new BitBoard(rows, columns, brickGenerator);
+        }
+    },
+
+    /** Row bitmasks in a circular buffer, so clears near the bottom and garbage insertion move no rows */
+    RING {
+        @Override
+        public Board create(int rows, int columns, BrickGenerator brickGenerator) {
+            return new RingBoard(rows, columns, brickGenerator);
+        }
+    };
+
+    /**
+     * Creates a new board of this type that deals from a clock-seeded {@link SevenBagGenerator}.
+     *
+     * @param rows Number of rows on the board (including hidden rows)
+     * @param columns Number of columns on the board
+     * @return A new, empty board
+     */
+    public Board create(int rows, int columns) {
+        return create(rows, columns, new SevenBagGenerator());
+    }
+
+    /**
+     * Creates a new board of this type that deals bricks from the given generator.
+     *
+     * @param rows Number of rows on the board (including hidden rows)
+     * @param columns Number of columns on the board
+     * @param brickGenerator Source of bricks, e.g. a seeded generator for reproducible games
+     * @return A new, empty board
+     */
+    public abstract Board create(int rows, int columns, BrickGenerator brickGenerator);
+
+    /**
+     * Resolves the board type from the {@link GameConstants#BOARD_TYPE_PROPERTY} system property.
+     *
+     * @return The configured board type, or {@link #SIMPLE} if unset or unknown
+     */
+    public static BoardType fromSystemProperty() {
+        String value = System.getProperty(GameConstants.BOARD_TYPE_PROPERTY);
+        if (value == null) {
+            return SIMPLE;
+        }
+        for (BoardType type : values()) {
+            if (type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        System.err.println("Unknown board type '" + value + "', using " + SIMPLE);
+        return SIMPLE;
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickOrientation;
+import com.comp2042.logic.bricks.RotationTable;
+
+public class BrickRotator {
+
+    private Brick brick;
+    private RotationTable rotations;
+    private int currentShape = 0;
+
+    public NextShapeInfo getNextShape() {
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(rotations.getOrientation(nextShape).copyShape(), nextShape);
+    }
+
+    /**
+     * Gets the rotation index that a left rotation would move to, without allocating.
+     *
+     * @return The next rotation index
+     */
+    public int getNextRotation() {
+        return (currentShape + 1) % rotations.getRotationCount();
+    }
+
+    /**
+     * Gets the shared, precomputed orientation for a rotation of the current brick.
+     *
+     * @param rotation The rotation index
+     * @return The orientation for that rotation
+     */
+    public BrickOrientation getOrientation(int rotation) {
+        return rotations.getOrientation(rotation);
+    }
+
+    /**
+     * Gets the shared, precomputed orientation for the current rotation.
+     *
+     * @return The current orientation
+     */
+    public BrickOrientation getCurrentOrientation() {
+        return rotations.getOrientation(currentShape);
+    }
+
+    public int[][] getCurrentShape() {
+        return getCurrentOrientation().copyShape();
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(Brick brick) {
+        setBrick(brick, 0);
+    }
+
+    public void setBrick(Brick brick, int rotation) {
+        this.brick = brick;
+        this.rotations = brick.getRotationTable();
+        this.currentShape = rotation;
+    }
+
+    public Brick getCurrentBrick() {
+        return brick;
+    }
+
+    public int getCurrentRotation() {
+        return currentShape;
+    }
+
+}
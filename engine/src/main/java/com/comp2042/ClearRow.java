@@ -0,0 +1,79 @@
+package com.comp2042;
+
+public final class ClearRow {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private static final ClearRow NONE = new ClearRow(NO_ROWS, 0, null, 0);
+
+    private final int linesRemoved;
+    private final int[] clearedRows;
+    private final int[][] newMatrix;
+    private final int scoreBonus;
+
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(NO_ROWS, linesRemoved, newMatrix, scoreBonus);
+    }
+
+    /**
+     * Creates a result that also reports which rows were cleared.
+     *
+     * @param clearedRows Indices of the cleared rows, top to bottom, in the board before clearing.
+     *                    The array is kept, not copied.
+     * @param linesRemoved Number of valid entries in {@code clearedRows}
+     * @param newMatrix The board after clearing, or null if the board was compacted in place
+     * @param scoreBonus Score awarded for the clear
+     */
+    public ClearRow(int[] clearedRows, int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this.linesRemoved = linesRemoved;
+        this.clearedRows = clearedRows;
+        this.newMatrix = newMatrix;
+        this.scoreBonus = scoreBonus;
+    }
+
+    /**
+     * Gets the shared result for a lock that cleared no rows.
+     *
+     * @return An empty result; never allocates
+     */
+    public static ClearRow none() {
+        return NONE;
+    }
+
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    /**
+     * Gets the index of one cleared row without copying or boxing.
+     *
+     * @param index From 0 to {@link #getLinesRemoved()} - 1
+     * @return The row index in the board before clearing
+     */
+    public int getClearedRow(int index) {
+        if (index < 0 || index >= linesRemoved) {
+            throw new IndexOutOfBoundsException("Cleared row " + index + " of " + linesRemoved);
+        }
+        return clearedRows[index];
+    }
+
+    /**
+     * @return A copy of the cleared row indices, top to bottom
+     */
+    public int[] getClearedRows() {
+        int[] rows = new int[linesRemoved];
+        System.arraycopy(clearedRows, 0, rows, 0, linesRemoved);
+        return rows;
+    }
+
+    /**
+     * @return A copy of the board after clearing, or null if the board was compacted in place
+     */
+    public int[][] getNewMatrix() {
+        return newMatrix == null ? null : MatrixOperations.copy(newMatrix);
+    }
+
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+}
@@ -0,0 +1,139 @@
+package com.comp2042;
+
+/**
+ * Fixed-timestep clock for the game logic. Real time, read from {@link System#nanoTime()}
+ * by the caller, is accumulated and turned into whole logic ticks of a fixed length,
+ * independent of how often or how regularly {@link #advance(long)} is called.
+ * A render loop calls it once per frame and then draws the latest state, so logic can
+ * run several ticks per frame or skip frames without ticks being lost or stretched.
+ *
+ * <p>After a stall (a GC pause, a dragged window) at most {@code maxTicksPerAdvance} ticks
+ * are caught up in one call; the rest of the backlog is dropped rather than replayed
+ * all at once.
+ */
+public final class GameClock {
+
+    /**
+     * Receives logic ticks.
+     */
+    @FunctionalInterface
+    public interface TickListener {
+        /**
+         * @param tick Number of the tick since the last {@link GameClock#reset()}, starting at 1
+         */
+        void onTick(long tick);
+    }
+
+    private final long tickNanos;
+    private final int maxTicksPerAdvance;
+    private final TickListener listener;
+
+    private boolean running;
+    private long lastNanos;
+    /** Elapsed time not yet turned into ticks, always below tickNanos after an advance */
+    private long accumulator;
+    private long tickCount;
+    private long droppedTicks;
+
+    /**
+     * @param tickNanos Length of one logic tick in nanoseconds
+     * @param maxTicksPerAdvance Most ticks run by one {@link #advance(long)}
+     * @param listener Called once per tick
+     */
+    public GameClock(long tickNanos, int maxTicksPerAdvance, TickListener listener) {
+        if (tickNanos <= 0 || maxTicksPerAdvance <= 0) {
+            throw new IllegalArgumentException("Tick length and catch-up cap must be positive");
+        }
+        this.tickNanos = tickNanos;
+        this.maxTicksPerAdvance = maxTicksPerAdvance;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts or resumes counting time from the given instant. A partial tick from
+     * before a {@link #stop()} is kept, time spent stopped is not counted.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     */
+    public void start(long nowNanos) {
+        lastNanos = nowNanos;
+        running = true;
+    }
+
+    /**
+     * Stops counting time, e.g. while paused or after game over.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Clears the partial tick and restarts tick numbering, for a new game.
+     */
+    public void reset() {
+        accumulator = 0;
+        tickCount = 0;
+    }
+
+    /**
+     * Runs every tick that has become due since the previous call.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @return Number of ticks run
+     */
+    public int advance(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        long elapsed = nowNanos - lastNanos;
+        lastNanos = nowNanos;
+        if (elapsed > 0) {
+            accumulator += elapsed;
+        }
+        int ticks = 0;
+        while (accumulator >= tickNanos && running) {
+            if (ticks == maxTicksPerAdvance) {
+                droppedTicks += accumulator / tickNanos;
+                accumulator %= tickNanos;
+                break;
+            }
+            accumulator -= tickNanos;
+            ticks++;
+            listener.onTick(++tickCount);
+        }
+        return ticks;
+    }
+
+    /**
+     * @return How far the clock is into the next tick, from 0 inclusive to 1 exclusive;
+     *         a renderer can use it to interpolate between ticks
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+
+    /**
+     * @return true between {@link #start(long)} and {@link #stop()}
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return Ticks run since the last {@link #reset()}
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return Ticks skipped by the catch-up cap since the clock was created
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
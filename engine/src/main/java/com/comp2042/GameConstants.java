@@ -42,6 +42,33 @@ public final class GameConstants {
     /** Number of hidden rows at the top of the board */
     public static final int HIDDEN_ROW_OFFSET = 2;
     
+    /** System property that selects the board engine (see {@link BoardType}) */
+    public static final String BOARD_TYPE_PROPERTY = "tetris.board";
+    
+    /** System property that selects the board renderer: nodes or canvas */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+    
+    /** System property naming a directory; when set, every finished game is saved there as a replay */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replay.dir";
+    
+    /** System property naming a replay file to play back instead of a live game */
+    public static final String REPLAY_FILE_PROPERTY = "tetris.replay.file";
+    
+    /** System property; when true, a replay is simulated to the end at once instead of tick by tick */
+    public static final String REPLAY_UNCAPPED_PROPERTY = "tetris.replay.uncapped";
+    
+    /** File name extension of saved replays */
+    public static final String REPLAY_FILE_EXTENSION = ".trpl";
+    
+    /** System property; when true, the game keeps a history of placed bricks that can be rewound */
+    public static final String REWIND_PROPERTY = "tetris.rewind";
+    
+    /** Most placed bricks the rewind history remembers; older ones are forgotten */
+    public static final int REWIND_HISTORY_LIMIT = 1000;
+    
+    /** Color code of garbage cells; outside the brick colors, so renderers draw their fallback color */
+    public static final int GARBAGE_COLOR = 8;
+    
     // ==================== Brick/Block Sizes ====================
     
     /** Size of bricks/blocks in the game board (pixels) */
@@ -55,9 +82,36 @@ public final class GameConstants {
     /** Duration of each game tick (automatic block movement) in milliseconds */
     public static final int GAME_TICK_DURATION_MS = 400;
     
+    /** Logic ticks per second of the fixed-timestep game clock; may exceed the display refresh rate */
+    public static final int LOGIC_TICKS_PER_SECOND = 240;
+    
+    /** Length of one logic tick in nanoseconds */
+    public static final long LOGIC_TICK_NANOS = 1_000_000_000L / LOGIC_TICKS_PER_SECOND;
+    
+    /** Logic ticks between two automatic down moves */
+    public static final int GRAVITY_INTERVAL_TICKS = GAME_TICK_DURATION_MS * LOGIC_TICKS_PER_SECOND / 1000;
+    
+    /** Most logic ticks caught up in one frame after a stall (a quarter second); the rest are skipped */
+    public static final int MAX_CATCH_UP_TICKS = LOGIC_TICKS_PER_SECOND / 4;
+    
     /** Cooldown period for hard drop in milliseconds */
     public static final long DROP_COOLDOWN_MS = 300;
     
+    /** System property with the Delayed Auto Shift in milliseconds */
+    public static final String DAS_PROPERTY = "tetris.das";
+    
+    /** System property with the Auto Repeat Rate in milliseconds; 0 moves to the wall at once */
+    public static final String ARR_PROPERTY = "tetris.arr";
+    
+    /** Default delay before a held left/right key starts repeating */
+    public static final int DEFAULT_DAS_MS = 167;
+    
+    /** Default interval between repeated left/right moves */
+    public static final int DEFAULT_ARR_MS = 33;
+    
+    /** Interval between soft drops while the down key is held */
+    public static final int SOFT_DROP_INTERVAL_MS = 33;
+    
     /** Duration of lock pulse animation in milliseconds */
     public static final int LOCK_PULSE_DURATION_MS = 150;
     
@@ -100,6 +154,24 @@ public final class GameConstants {
     /** High score file name */
     public static final String HIGHSCORE_FILE = "highscore.txt";
     
+    /** Longest time a new high score waits before the background writer saves it */
+    public static final long HIGHSCORE_FLUSH_INTERVAL_MS = 5000;
+    
+    /** Append-only log of every finished game */
+    public static final String LEADERBOARD_LOG_FILE = "leaderboard.log";
+    
+    /** Snapshot of the per-mode top entries and the log offset it covers */
+    public static final String LEADERBOARD_INDEX_FILE = "leaderboard.idx";
+    
+    /** Entries kept per mode in the leaderboard index */
+    public static final int LEADERBOARD_TOP_K = 100;
+    
+    /** Entries listed on the game over screen */
+    public static final int LEADERBOARD_SHOWN = 5;
+    
+    /** Leaderboard mode of the standard endless game */
+    public static final String LEADERBOARD_MODE_MARATHON = "marathon";
+    
     // ==================== Application Info ====================
     
     /** Application title */
@@ -0,0 +1,304 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * Runs the game rules on top of a {@link Board}: locking, line clears, scoring,
+ * hold, preview and game over. Has no user interface dependency; a UI observes the
+ * engine through a {@link GameListener}.
+ */
+public class GameEngine implements InputEventListener {
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+    };
+
+    private final Board board;
+
+    private GameListener listener = NO_LISTENER;
+
+    private Brick heldBrick;
+    private int heldRotation;
+    private boolean canHold = true;
+
+    private boolean gameOver;
+    private int linesCleared;
+    private int piecesPlaced;
+
+    /**
+     * Creates an engine for the given board. Call {@link #createNewGame()} to start playing.
+     *
+     * @param board The board to run the rules on
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Sets the listener notified of game events.
+     *
+     * @param listener The listener, or null to stop notifications
+     */
+    public void setGameListener(GameListener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (gameOver) {
+            return new DownData(null, null);
+        }
+        ClearRow clearRow = null;
+        if (!board.moveBrickDown()) {
+            clearRow = lockBrick();
+            if (gameOver) {
+                // Don't hand out the colliding brick
+                return new DownData(clearRow, null);
+            }
+        } else if (event.getEventSource() == EventSource.USER) {
+            addScore(1);
+        }
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        if (!gameOver) {
+            board.moveBrickLeft();
+        }
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        if (!gameOver) {
+            board.moveBrickRight();
+        }
+        return board.getViewData();
+    }
+
+    @Override
+    public boolean onShiftEvent(MoveEvent event) {
+        if (gameOver) {
+            return false;
+        }
+        return event.getEventType() == EventType.LEFT ? board.moveBrickLeft() : board.moveBrickRight();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        if (!gameOver) {
+            board.rotateLeftBrick();
+        }
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        if (!canHold || gameOver) {
+            return board.getViewData(); // Already held this turn, return current view
+        }
+
+        Brick currentBrick = board.getCurrentBrick();
+        int currentRotation = board.getCurrentRotation();
+
+        if (heldBrick == null) {
+            // First time holding - just store the current brick and get a new one
+            heldBrick = currentBrick;
+            heldRotation = currentRotation;
+            board.createNewBrick();
+            publishPreview();
+        } else {
+            // Swap the held brick with the current brick
+            Brick tempBrick = heldBrick;
+            int tempRotation = heldRotation;
+            heldBrick = currentBrick;
+            heldRotation = currentRotation;
+            board.setBrick(tempBrick, tempRotation);
+        }
+        canHold = false;
+
+        listener.onHoldChanged(new Block(heldBrick.getRotationTable().getOrientation(heldRotation).copyShape()));
+        return board.getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        return dropInstant();
+    }
+
+    /**
+     * Drops the falling brick straight to its landing row and locks it.
+     * Awards 2 points per row dropped.
+     *
+     * @return The clear result and the next brick's view data (null view data on game over)
+     */
+    public DownData dropInstant() {
+        if (gameOver) {
+            return new DownData(null, null);
+        }
+        int rowsDropped = board.hardDrop();
+        listener.onHardDrop(rowsDropped);
+        if (rowsDropped > 0) {
+            addScore(rowsDropped * 2);
+        }
+        ClearRow clearRow = lockBrick();
+        return new DownData(clearRow, gameOver ? null : board.getViewData());
+    }
+
+    @Override
+    public void createNewGame() {
+        board.newGame();
+        heldBrick = null;
+        heldRotation = 0;
+        canHold = true;
+        gameOver = false;
+        linesCleared = 0;
+        piecesPlaced = 0;
+        publishBoard();
+        listener.onScoreChanged(board.getScore().getValue());
+        publishPreview();
+        listener.onHoldChanged(null);
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom of the board. Topping out ends the game.
+     *
+     * @param count Rows to insert
+     * @param holeColumn The empty column of every inserted row
+     * @return true if the game is over
+     */
+    public boolean addGarbage(int count, int holeColumn) {
+        if (gameOver) {
+            return true;
+        }
+        boolean overflow = board.addGarbageRows(count, holeColumn);
+        publishBoard();
+        if (overflow) {
+            gameOver = true;
+            listener.onGameOver();
+        }
+        return gameOver;
+    }
+
+    /**
+     * Captures the whole game: board, falling brick, hold, bag position, score and counters.
+     *
+     * @return A snapshot for {@link #restore(GameSnapshot)}; rows are shared with the board, not copied
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(board.snapshot(), heldBrick, heldRotation, canHold,
+                gameOver, linesCleared, piecesPlaced);
+    }
+
+    /**
+     * Puts the game back into a captured state and notifies the listener of the whole board,
+     * score, preview and hold, as after a new game.
+     *
+     * @param snapshot A snapshot taken from this engine
+     */
+    public void restore(GameSnapshot snapshot) {
+        board.restore(snapshot.getBoard());
+        heldBrick = snapshot.getHeldBrick();
+        heldRotation = snapshot.getHeldRotation();
+        canHold = snapshot.canHold();
+        gameOver = snapshot.isGameOver();
+        linesCleared = snapshot.getLinesCleared();
+        piecesPlaced = snapshot.getPiecesPlaced();
+        publishBoard();
+        listener.onScoreChanged(board.getScore().getValue());
+        publishPreview();
+        listener.onHoldChanged(heldBrick == null ? null
+                : new Block(heldBrick.getRotationTable().getOrientation(heldRotation).copyShape()));
+    }
+
+    /**
+     * Merges the falling brick, clears full rows and spawns the next brick.
+     */
+    private ClearRow lockBrick() {
+        // Get the block's position and shape before merging
+        ViewData lockedBrick = board.getViewData();
+        board.mergeBrickToBackground();
+        piecesPlaced++;
+        listener.onBrickLocked(lockedBrick);
+
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            linesCleared += clearRow.getLinesRemoved();
+            addScore(clearRow.getScoreBonus());
+            listener.onRowsCleared(clearRow);
+        }
+        publishBoard();
+
+        // Create new brick and check for immediate collision (game over)
+        if (board.createNewBrick()) {
+            gameOver = true;
+            listener.onGameOver();
+        } else {
+            canHold = true; // Allow hold again when a block locks and new one appears
+            publishPreview();
+        }
+        return clearRow;
+    }
+
+    /**
+     * Notifies the listener of the rows changed since the last notification.
+     */
+    private void publishBoard() {
+        listener.onBoardChanged(board.getBoardMatrix(), board.getDirtyTop(), board.getDirtyBottom());
+        board.clearDirtyRows();
+    }
+
+    private void addScore(int points) {
+        board.getScore().add(points);
+        listener.onScoreChanged(board.getScore().getValue());
+    }
+
+    private void publishPreview() {
+        listener.onPreviewChanged(
+                new Block(board.getViewData().getNextBrickData()),
+                new Block(board.getSecondNextBrickData()),
+                new Block(board.getThirdNextBrickData()));
+    }
+
+    /**
+     * @return The Y position where the current brick would land
+     */
+    public int calculateGhostY() {
+        return board.getLandingY();
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    public int[][] getBoardMatrix() {
+        return board.getBoardMatrix();
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getScore() {
+        return board.getScore().getValue();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return Total rows cleared since the last new game
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * @return Total bricks locked since the last new game
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+}
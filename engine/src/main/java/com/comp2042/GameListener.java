@@ -0,0 +1,72 @@
+package com.comp2042;
+
+/**
+ * Receives notifications from a {@link GameEngine}.
+ * This is how a user interface observes the game; headless callers can ignore it
+ * or override only the callbacks they need.
+ */
+public interface GameListener {
+
+    /**
+     * Called just after the falling brick has been merged into the board.
+     *
+     * @param lockedBrick The brick's shape and position at the moment it locked
+     */
+    default void onBrickLocked(ViewData lockedBrick) {
+    }
+
+    /**
+     * Called when a lock cleared at least one row.
+     *
+     * @param clearRow The rows cleared and the score awarded
+     */
+    default void onRowsCleared(ClearRow clearRow) {
+    }
+
+    /**
+     * Called when the settled blocks on the board have changed (lock, clear or new game).
+     * Only rows {@code firstRow} to {@code lastRow} differ from the previous notification.
+     *
+     * @param boardMatrix The current board matrix; must not be modified
+     * @param firstRow The first (topmost) changed row
+     * @param lastRow The last (bottommost) changed row
+     */
+    default void onBoardChanged(int[][] boardMatrix, int firstRow, int lastRow) {
+    }
+
+    /**
+     * Called when a hard drop has moved the brick to its landing row, before it locks.
+     *
+     * @param rowsDropped The number of rows the brick fell
+     */
+    default void onHardDrop(int rowsDropped) {
+    }
+
+    /**
+     * Called when the upcoming bricks have changed.
+     */
+    default void onPreviewChanged(Block next1, Block next2, Block next3) {
+    }
+
+    /**
+     * Called when the held brick has changed.
+     *
+     * @param heldBrick The held brick, or null when nothing is held
+     */
+    default void onHoldChanged(Block heldBrick) {
+    }
+
+    /**
+     * Called whenever the score changes.
+     *
+     * @param score The new score
+     */
+    default void onScoreChanged(int score) {
+    }
+
+    /**
+     * Called when a new brick could not be placed and the game has ended.
+     */
+    default void onGameOver() {
+    }
+}
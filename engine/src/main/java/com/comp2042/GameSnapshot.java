@@ -0,0 +1,61 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * Immutable state of a {@link GameEngine}: its board's {@link BoardSnapshot} plus the held
+ * brick and the game counters that live in the engine. Cheap enough to take after every
+ * placed brick, since the board rows are shared rather than copied.
+ */
+public final class GameSnapshot {
+
+    private final BoardSnapshot board;
+    private final Brick heldBrick;
+    private final int heldRotation;
+    private final boolean canHold;
+    private final boolean gameOver;
+    private final int linesCleared;
+    private final int piecesPlaced;
+
+    GameSnapshot(BoardSnapshot board, Brick heldBrick, int heldRotation, boolean canHold,
+                 boolean gameOver, int linesCleared, int piecesPlaced) {
+        this.board = board;
+        this.heldBrick = heldBrick;
+        this.heldRotation = heldRotation;
+        this.canHold = canHold;
+        this.gameOver = gameOver;
+        this.linesCleared = linesCleared;
+        this.piecesPlaced = piecesPlaced;
+    }
+
+    public BoardSnapshot getBoard() {
+        return board;
+    }
+
+    /**
+     * @return The held brick, or null when nothing was held
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    public int getHeldRotation() {
+        return heldRotation;
+    }
+
+    public boolean canHold() {
+        return canHold;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+}
@@ -0,0 +1,204 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickOrientation;
+import com.comp2042.logic.bricks.RotationTable;
+
+/**
+ * A one-piece lookahead player for headless games.
+ * For every rotation and column of the falling brick it scores the board that dropping the
+ * brick there would leave, by aggregate height, cleared lines, holes and bumpiness.
+ * It then plays the best placement as rotate, shift and hard drop inputs.
+ *
+ * <p>A placement that clears no rows changes only the brick's own columns, so it is scored
+ * from the board's {@link BoardStats} and those few columns. Only placements that complete a
+ * row are dropped onto a scratch copy of the board and scanned.
+ */
+public class GreedyBot {
+
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private int[][] scratch;
+    private int[] heights;
+    private boolean[] cleared;
+
+    private int bestRotation;
+    private int bestX;
+
+    /**
+     * Chooses a placement for the falling brick and plays it.
+     *
+     * @param board The board, used to read the brick and the settled blocks
+     * @param input Where the inputs go, e.g. the {@link GameEngine} running the board
+     * @return The result of the hard drop
+     */
+    public DownData playPiece(Board board, InputEventListener input) {
+        choosePlacement(board);
+        int rotation = board.getCurrentRotation();
+        RotationTable rotations = board.getCurrentBrick().getRotationTable();
+        int turns = Math.floorMod(bestRotation - rotation, rotations.getRotationCount());
+        for (int i = 0; i < turns; i++) {
+            input.onRotateEvent(ROTATE);
+        }
+        int x = board.getViewData().getxPosition();
+        for (; x > bestX; x--) {
+            input.onLeftEvent(LEFT);
+        }
+        for (; x < bestX; x++) {
+            input.onRightEvent(RIGHT);
+        }
+        return input.onHardDropEvent(HARD_DROP);
+    }
+
+    private void choosePlacement(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        BoardStats stats = board.getStats();
+        ensureScratch(matrix);
+        RotationTable rotations = board.getCurrentBrick().getRotationTable();
+        int spawnY = board.getViewData().getyPosition();
+        int columns = matrix[0].length;
+
+        double bestScore = Double.NEGATIVE_INFINITY;
+        bestRotation = board.getCurrentRotation();
+        bestX = board.getViewData().getxPosition();
+        for (int rotation = 0; rotation < rotations.getRotationCount(); rotation++) {
+            BrickOrientation orientation = rotations.getOrientation(rotation);
+            for (int x = -orientation.getMinX(); x + orientation.getMaxX() < columns; x++) {
+                if (MatrixOperations.intersect(matrix, orientation, x, spawnY)) {
+                    continue;
+                }
+                int y = spawnY;
+                while (!MatrixOperations.intersect(matrix, orientation, x, y + 1)) {
+                    y++;
+                }
+                double score = completesRow(stats, orientation, x, y)
+                        ? evaluateByScan(matrix, orientation, x, y)
+                        : evaluate(stats, orientation, x, y);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestRotation = rotation;
+                    bestX = x;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if locking the brick at (x, y) would fill at least one row
+     */
+    private static boolean completesRow(BoardStats stats, BrickOrientation orientation, int x, int y) {
+        // The brick fits at (x, y), so its cells only add to the row's fill
+        for (int i = 0; i < orientation.getRowCount(); i++) {
+            int bits = orientation.getRowMask(i);
+            if (bits != 0 && stats.getRowFill(y + i) + Integer.bitCount(bits) == stats.getColumns()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scores locking the brick at (x, y) when that clears no rows. Only the brick's columns
+     * change height, and every empty cell it covers becomes a hole, so the features follow
+     * from the current stats and those columns.
+     */
+    private double evaluate(BoardStats stats, BrickOrientation orientation, int x, int y) {
+        int rows = stats.getRows();
+        int columns = stats.getColumns();
+        int first = x + orientation.getMinX();
+        int last = x + orientation.getMaxX();
+        for (int column = first; column <= last; column++) {
+            heights[column] = stats.getColumnHeight(column);
+        }
+        for (int i = 0; i < orientation.getCellCount(); i++) {
+            int column = x + orientation.getCellX(i);
+            heights[column] = Math.max(heights[column], rows - (y + orientation.getCellY(i)));
+        }
+        int aggregateHeight = stats.getAggregateHeight();
+        for (int column = first; column <= last; column++) {
+            aggregateHeight += heights[column] - stats.getColumnHeight(column);
+        }
+        int bumpiness = stats.getBumpiness();
+        for (int column = Math.max(1, first); column <= Math.min(columns - 1, last + 1); column++) {
+            int left = column - 1 >= first ? heights[column - 1] : stats.getColumnHeight(column - 1);
+            int right = column <= last ? heights[column] : stats.getColumnHeight(column);
+            bumpiness += Math.abs(right - left)
+                    - Math.abs(stats.getColumnHeight(column) - stats.getColumnHeight(column - 1));
+        }
+        int holes = aggregateHeight - stats.getFilledCells() - orientation.getCellCount();
+        int lines = 0;
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    /**
+     * Scores the board that results from locking the brick at (x, y) by scanning a scratch copy,
+     * without modifying the board. Used when the brick completes rows.
+     */
+    private double evaluateByScan(int[][] matrix, BrickOrientation orientation, int x, int y) {
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(matrix[i], 0, scratch[i], 0, columns);
+        }
+        for (int i = 0; i < orientation.getCellCount(); i++) {
+            scratch[y + orientation.getCellY(i)][x + orientation.getCellX(i)] = 1;
+        }
+
+        // Cleared rows are counted and skipped, which is the same as removing them
+        int lines = 0;
+        for (int i = 0; i < rows; i++) {
+            boolean full = true;
+            for (int j = 0; j < columns && full; j++) {
+                full = scratch[i][j] != 0;
+            }
+            cleared[i] = full;
+            if (full) {
+                lines++;
+            }
+        }
+
+        int holes = 0;
+        int aggregateHeight = 0;
+        for (int j = 0; j < columns; j++) {
+            int height = 0;
+            int remaining = rows - lines;
+            for (int i = 0; i < rows; i++) {
+                if (cleared[i]) {
+                    continue;
+                }
+                if (scratch[i][j] != 0) {
+                    if (height == 0) {
+                        height = remaining;
+                    }
+                } else if (height != 0) {
+                    holes++;
+                }
+                remaining--;
+            }
+            heights[j] = height;
+            aggregateHeight += height;
+        }
+        int bumpiness = 0;
+        for (int j = 1; j < columns; j++) {
+            bumpiness += Math.abs(heights[j] - heights[j - 1]);
+        }
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    private void ensureScratch(int[][] matrix) {
+        if (scratch == null || scratch.length != matrix.length || scratch[0].length != matrix[0].length) {
+            scratch = new int[matrix.length][matrix[0].length];
+            heights = new int[matrix[0].length];
+            cleared = new boolean[matrix.length];
+        }
+    }
+}
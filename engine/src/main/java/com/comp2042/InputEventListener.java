@@ -0,0 +1,42 @@
+package com.comp2042;
+
+public interface InputEventListener {
+
+    DownData onDownEvent(MoveEvent event);
+
+    ViewData onLeftEvent(MoveEvent event);
+
+    ViewData onRightEvent(MoveEvent event);
+
+    /**
+     * Moves the falling brick one column left or right, as the event's type says, without
+     * building a {@link ViewData}; for callers that repeat the move, such as {@link AutoShift}.
+     *
+     * @return true if the brick moved, false if it was blocked or the game is over
+     */
+    boolean onShiftEvent(MoveEvent event);
+
+    ViewData onRotateEvent(MoveEvent event);
+
+    ViewData onHoldEvent(MoveEvent event);
+
+    DownData onHardDropEvent(MoveEvent event);
+
+    void createNewGame();
+
+    /**
+     * @return The falling brick as it is now, or null if there is none, e.g. after game over
+     */
+    default ViewData getViewData() {
+        return null;
+    }
+
+    /**
+     * Takes back the last placed brick, for listeners that keep a history of the game.
+     *
+     * @return The falling brick after rewinding, or null if there is nothing to rewind
+     */
+    default ViewData onRewindEvent() {
+        return null;
+    }
+}
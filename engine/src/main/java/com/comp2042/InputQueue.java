@@ -0,0 +1,125 @@
+package com.comp2042;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded single-producer, single-consumer queue of input events between the thread
+ * that receives key events and the game loop.
+ *
+ * <p>Events are stored as primitives in preallocated arrays (an int code for the event type
+ * and whether the key was pressed or released, and a {@link System#nanoTime()} timestamp),
+ * so offering and draining allocate nothing. The producer only writes the tail and the
+ * consumer only writes the head, each published with release/acquire ordering; no locks
+ * are taken. Exactly one thread may call {@link #offer(EventType, boolean, long)} and exactly
+ * one thread may call {@link #drain(Consumer)}; they may be the same thread.
+ */
+public final class InputQueue {
+
+    /**
+     * Receives drained events.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+        /**
+         * @param type The input
+         * @param released true for a key release, false for a press
+         * @param nanos {@link System#nanoTime()} when the input was received
+         */
+        void accept(EventType type, boolean released, long nanos);
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(InputQueue.class, "head", long.class);
+            TAIL = lookup.findVarHandle(InputQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final EventType[] TYPES = EventType.values();
+
+    private final int mask;
+    private final int[] codes;
+    private final long[] timestamps;
+
+    /** Next slot to read; written by the consumer only */
+    private long head;
+    /** Next slot to write; written by the producer only */
+    private long tail;
+    /** Producer's last seen head, to avoid reading the consumer's field on every offer */
+    private long cachedHead;
+
+    private long droppedCount;
+
+    /**
+     * @param capacity Most events held at once; rounded up to a power of two
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = size - 1;
+        codes = new int[size];
+        timestamps = new long[size];
+    }
+
+    /**
+     * Adds an event. Producer thread only.
+     *
+     * @param type The input
+     * @param released true for a key release, false for a press
+     * @param nanos {@link System#nanoTime()} when the input was received
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(EventType type, boolean released, long nanos) {
+        long t = tail;
+        if (t - cachedHead > mask) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (t - cachedHead > mask) {
+                droppedCount++;
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        codes[slot] = type.ordinal() << 1 | (released ? 1 : 0);
+        timestamps[slot] = nanos;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Hands every queued event to the consumer, oldest first. Consumer thread only.
+     *
+     * @param consumer Receives the events
+     * @return Number of events drained
+     */
+    public int drain(Consumer consumer) {
+        long h = head;
+        long t = (long) TAIL.getAcquire(this);
+        for (long i = h; i < t; i++) {
+            int slot = (int) i & mask;
+            int code = codes[slot];
+            consumer.accept(TYPES[code >>> 1], (code & 1) != 0, timestamps[slot]);
+        }
+        HEAD.setRelease(this, t);
+        return (int) (t - h);
+    }
+
+    /**
+     * @return Events waiting to be drained; exact only on the consumer thread
+     */
+    public int size() {
+        return (int) ((long) TAIL.getAcquire(this) - (long) HEAD.getAcquire(this));
+    }
+
+    /**
+     * @return Events rejected because the queue was full; read on the producer thread
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
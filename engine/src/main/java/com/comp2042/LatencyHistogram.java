@@ -0,0 +1,72 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds. Buckets have equal width; values past
+ * the last bucket are counted in it. Recording is an array increment, so it can run every
+ * frame or tick without allocating.
+ */
+public final class LatencyHistogram {
+
+    private final long bucketWidthNanos;
+    private final int[] counts;
+    private long total;
+    private long max;
+
+    /**
+     * @param bucketCount Number of buckets
+     * @param bucketWidthNanos Width of each bucket; the histogram resolves up to
+     *                         {@code bucketCount * bucketWidthNanos}
+     */
+    public LatencyHistogram(int bucketCount, long bucketWidthNanos) {
+        this.bucketWidthNanos = bucketWidthNanos;
+        this.counts = new int[bucketCount];
+    }
+
+    /**
+     * @param nanos A duration; negative values count as 0
+     */
+    public void record(long nanos) {
+        long bucket = Math.max(0, nanos) / bucketWidthNanos;
+        counts[(int) Math.min(bucket, counts.length - 1)]++;
+        total++;
+        max = Math.max(max, nanos);
+    }
+
+    /**
+     * @param percentile From 0 to 100
+     * @return Upper bound of the bucket holding the given percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (i + 1) * bucketWidthNanos;
+            }
+        }
+        return counts.length * bucketWidthNanos;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Forgets everything recorded.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+}
@@ -0,0 +1,675 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickOrientation;
+
+import java.util.Arrays;
+
+/**
+ * Board that stores every row of the playfield as a bitmask, shared by {@link BitBoard} and
+ * {@link RingBoard}. Bit {@code c % 64} of word {@code c / 64} of a row is set when cell (r, c)
+ * is occupied, so collision tests are a shift and an AND per brick row, and a full row is a
+ * compare per word; a board up to 64 columns wide has one word per row. Colors live in a
+ * separate compact plane that is only touched on merge and line clear.
+ *
+ * <p>Rows are addressed by logical row (0 is the top) and stored at the physical slot given by
+ * {@link #slot(int)}, which here is the row itself. Subclasses may map rows to other slots and
+ * change how a line clear compacts the stack and how garbage moves it up; everything else,
+ * including snapshots, goes through {@link #slot(int)} and works for any mapping.
+ */
+abstract class MaskBoard implements Board {
+
+    final int rows;
+    final int columns;
+    // 64-bit words per row mask
+    private final int words;
+    // The used bits of a row's last word
+    private final long lastWordMask;
+    // Indexed by physical slot * words + word
+    private final long[] rowMasks;
+    // Indexed by physical slot
+    final byte[][] colors;
+    // Color rows also referenced by a snapshot; such a row is copied before it is next written
+    final boolean[] sharedRows;
+    // Zeroed color row that emptied shared rows point to
+    private final byte[] emptyColors;
+    // Holes, wells, bumpiness and row transitions, kept in step with merges, clears and garbage
+    private final BoardStats stats;
+    // Stack height per column (skyline), kept in step with merges, clears and garbage
+    private final int[] columnHeights;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+
+    private BrickOrientation currentOrientation;
+    private int offsetX;
+    private int offsetY;
+    // Logical rows written by merges since the last clearRows(); only these can have become full
+    private int touchedTop;
+    private int touchedBottom;
+    // Logical rows changed since the last clearDirtyRows(), so views can redraw only those
+    private int dirtyTop;
+    private int dirtyBottom;
+
+    private final int[][] matrixView;
+    // Logical rows of matrixView that are stale; only these are copied when the matrix is next requested
+    private int staleTop;
+    private int staleBottom;
+
+    MaskBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " needs at least one column, got " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        words = (columns + Long.SIZE - 1) / Long.SIZE;
+        lastWordMask = columns % Long.SIZE == 0 ? -1L : (1L << columns % Long.SIZE) - 1;
+        rowMasks = new long[rows * words];
+        colors = new byte[rows][columns];
+        sharedRows = new boolean[rows];
+        emptyColors = new byte[columns];
+        columnHeights = new int[columns];
+        matrixView = new int[rows][columns];
+        stats = new BoardStats(rows, columns, columnHeights, new BoardStats.Cells() {
+            @Override
+            public boolean isFilled(int row, int column) {
+                return filled(slot(row), column);
+            }
+
+            @Override
+            public int rowFill(int row) {
+                return fill(slot(row));
+            }
+        });
+        staleTop = rows;
+        staleBottom = -1;
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+        resetTouchedRows();
+        clearDirtyRows();
+    }
+
+    /**
+     * @return The physical slot holding a logical row
+     */
+    int slot(int row) {
+        return row;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(offsetX, offsetY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(offsetX - 1, offsetY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(offsetX + 1, offsetY);
+    }
+
+    private boolean tryMove(int x, int y) {
+        if (collides(currentOrientation, x, y)) {
+            return false;
+        }
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextRotation();
+        BrickOrientation next = brickRotator.getOrientation(nextRotation);
+        if (collides(next, offsetX, offsetY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextRotation);
+        currentOrientation = next;
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        brickRotator.setBrick(brickGenerator.getBrick());
+        return spawnCurrentBrick();
+    }
+
+    @Override
+    public boolean setBrick(Brick brick, int rotation) {
+        brickRotator.setBrick(brick, rotation);
+        return spawnCurrentBrick();
+    }
+
+    private boolean spawnCurrentBrick() {
+        currentOrientation = brickRotator.getCurrentOrientation();
+        offsetX = 4;
+        offsetY = 2;
+        return collides(currentOrientation, offsetX, offsetY);
+    }
+
+    /**
+     * Tests the brick's precomputed row masks against the board at the given offset.
+     * Cells outside the board count as collisions, matching {@link MatrixOperations#intersect}.
+     */
+    private boolean collides(BrickOrientation orientation, int x, int y) {
+        for (int i = 0; i < orientation.getRowCount(); i++) {
+            int bits = orientation.getRowMask(i);
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows || !fits(bits, x) || overlaps(slot(row), bits, x)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if every bit of a brick row mask placed at board column {@code x} lies on the board
+     */
+    private boolean fits(int bits, int x) {
+        return x + Integer.numberOfTrailingZeros(bits) >= 0
+                && x + Integer.SIZE - 1 - Integer.numberOfLeadingZeros(bits) < columns;
+    }
+
+    /**
+     * @return true if a brick row mask placed at board column {@code x}, which must {@link #fits fit},
+     *         covers a filled cell of a slot
+     */
+    private boolean overlaps(int slot, int bits, int x) {
+        long placed = x < 0 ? bits >>> -x : bits;
+        int column = Math.max(x, 0);
+        int index = slot * words + column / Long.SIZE;
+        int shift = column % Long.SIZE;
+        if ((rowMasks[index] & placed << shift) != 0) {
+            return true;
+        }
+        long spill = shift == 0 ? 0 : placed >>> Long.SIZE - shift;
+        return spill != 0 && (rowMasks[index + 1] & spill) != 0;
+    }
+
+    /**
+     * Sets the cells of a brick row mask placed at board column {@code x}, which must {@link #fits fit}.
+     */
+    private void fillBits(int slot, int bits, int x) {
+        long placed = x < 0 ? bits >>> -x : bits;
+        int column = Math.max(x, 0);
+        int index = slot * words + column / Long.SIZE;
+        int shift = column % Long.SIZE;
+        rowMasks[index] |= placed << shift;
+        long spill = shift == 0 ? 0 : placed >>> Long.SIZE - shift;
+        if (spill != 0) {
+            rowMasks[index + 1] |= spill;
+        }
+    }
+
+    private boolean filled(int slot, int column) {
+        return (rowMasks[slot * words + column / Long.SIZE] >>> column & 1) != 0;
+    }
+
+    /**
+     * @return Filled cells in a slot
+     */
+    private int fill(int slot) {
+        int count = 0;
+        for (int i = slot * words, end = i + words; i < end; i++) {
+            count += Long.bitCount(rowMasks[i]);
+        }
+        return count;
+    }
+
+    boolean isFull(int slot) {
+        int last = slot * words + words - 1;
+        for (int i = slot * words; i < last; i++) {
+            if (rowMasks[i] != -1L) {
+                return false;
+            }
+        }
+        return rowMasks[last] == lastWordMask;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        for (int i = staleTop; i <= staleBottom; i++) {
+            byte[] colorRow = colors[slot(i)];
+            int[] viewRow = matrixView[i];
+            for (int j = 0; j < columns; j++) {
+                viewRow[j] = colorRow[j];
+            }
+        }
+        staleTop = rows;
+        staleBottom = -1;
+        return matrixView;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(currentOrientation.copyShape(), offsetX, offsetY,
+                brickGenerator.getNextBrick().getRotationTable().getOrientation(0).copyShape(), getLandingY());
+    }
+
+    /**
+     * Computes the landing row from the column heights and the brick's bottom profile.
+     * Falls back to a row-by-row scan only when the brick sits below the skyline (under an overhang).
+     */
+    @Override
+    public int getLandingY() {
+        int landingY = Integer.MAX_VALUE;
+        for (int x = currentOrientation.getMinX(); x <= currentOrientation.getMaxX(); x++) {
+            int bottom = currentOrientation.getColumnBottom(x);
+            if (bottom < 0) {
+                continue;
+            }
+            int surface = rows - columnHeights[offsetX + x];
+            if (offsetY + bottom >= surface) {
+                return scanLandingY();
+            }
+            landingY = Math.min(landingY, surface - 1 - bottom);
+        }
+        return landingY == Integer.MAX_VALUE ? offsetY : landingY;
+    }
+
+    private int scanLandingY() {
+        int y = offsetY;
+        while (!collides(currentOrientation, offsetX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public int hardDrop() {
+        int landingY = getLandingY();
+        int distance = landingY - offsetY;
+        offsetY = landingY;
+        return distance;
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
+    }
+
+    @Override
+    public BoardStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        for (int i = 0; i < currentOrientation.getRowCount(); i++) {
+            int bits = currentOrientation.getRowMask(i);
+            if (bits != 0) {
+                int row = offsetY + i;
+                stats.rowChanging(row);
+                fillBits(slot(row), bits, offsetX);
+                stats.rowChanged(row);
+            }
+        }
+        for (int i = 0; i < currentOrientation.getCellCount(); i++) {
+            int row = offsetY + currentOrientation.getCellY(i);
+            int column = offsetX + currentOrientation.getCellX(i);
+            byte[] colorRow = writableColors(slot(row));
+            // A held brick can be swapped in over the stack, so only count cells that were empty
+            if (colorRow[column] == 0) {
+                stats.cellAdded(column);
+            }
+            colorRow[column] = (byte) currentOrientation.getColor();
+            columnHeights[column] = Math.max(columnHeights[column], rows - row);
+        }
+        stats.columnsChanged(offsetX + currentOrientation.getMinX(), offsetX + currentOrientation.getMaxX());
+        touchedTop = Math.min(touchedTop, offsetY + currentOrientation.getMinY());
+        touchedBottom = Math.max(touchedBottom, offsetY + currentOrientation.getMaxY());
+        markDirty(offsetY + currentOrientation.getMinY(), offsetY + currentOrientation.getMaxY());
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int removed = 0;
+        int highestFull = -1;
+        int lowestFull = -1;
+        for (int i = touchedTop; i <= touchedBottom; i++) {
+            if (isFull(slot(i))) {
+                if (removed++ == 0) {
+                    highestFull = i;
+                }
+                lowestFull = i;
+            }
+        }
+        resetTouchedRows();
+        if (removed == 0) {
+            return ClearRow.none();
+        }
+
+        // Every row from the top of the stack down to the lowest cleared row shifts
+        markDirty(rows - maxColumnHeight(), lowestFull);
+        int[] clearedRows = new int[removed];
+        compact(highestFull, lowestFull, clearedRows);
+        lowerColumnHeights();
+        stats.rowsCleared(removed);
+        return new ClearRow(clearedRows, removed, null, MatrixOperations.scoreBonus(removed));
+    }
+
+    /**
+     * Empties the full rows between {@code highestFull} and {@code lowestFull} and closes the
+     * gaps they leave, so that afterwards logical rows 0 to {@code clearedRows.length - 1} are
+     * empty. Fills {@code clearedRows} with the cleared logical rows, top first.
+     */
+    void compact(int highestFull, int lowestFull, int[] clearedRows) {
+        compactDown(lowestFull, clearedRows);
+    }
+
+    /**
+     * Moves the survivors above the lowest cleared row down over the cleared rows,
+     * leaving the emptied slots at the top.
+     */
+    final void compactDown(int lowestFull, int[] clearedRows) {
+        int remaining = clearedRows.length;
+        int target = lowestFull;
+        for (int i = lowestFull; i >= 0; i--) {
+            if (isFull(slot(i))) {
+                clearedRows[--remaining] = i;
+                zeroRow(slot(i));
+                continue;
+            }
+            if (target != i) {
+                swapSlots(slot(target), slot(i));
+            }
+            target--;
+        }
+    }
+
+    /**
+     * Exchanges the contents of two physical slots; the color row arrays themselves are not copied.
+     */
+    final void swapSlots(int a, int b) {
+        for (int i = 0; i < words; i++) {
+            long mask = rowMasks[a * words + i];
+            rowMasks[a * words + i] = rowMasks[b * words + i];
+            rowMasks[b * words + i] = mask;
+        }
+        byte[] colorRow = colors[a];
+        colors[a] = colors[b];
+        colors[b] = colorRow;
+        boolean shared = sharedRows[a];
+        sharedRows[a] = sharedRows[b];
+        sharedRows[b] = shared;
+    }
+
+    /**
+     * @return The color row in a slot for writing, first copied if a snapshot still references it
+     */
+    private byte[] writableColors(int slot) {
+        if (sharedRows[slot]) {
+            colors[slot] = colors[slot].clone();
+            sharedRows[slot] = false;
+        }
+        return colors[slot];
+    }
+
+    /**
+     * Empties a slot. A color row a snapshot references is swapped for the shared empty row instead of zeroed.
+     */
+    final void zeroRow(int slot) {
+        Arrays.fill(rowMasks, slot * words, slot * words + words, 0L);
+        if (sharedRows[slot]) {
+            colors[slot] = emptyColors;
+        } else {
+            Arrays.fill(colors[slot], (byte) 0);
+        }
+    }
+
+    /**
+     * Moves the stack up by {@code count} rows and fills the new bottom rows as garbage.
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= columns) {
+            throw new IllegalArgumentException("Hole column " + holeColumn + " is outside the board");
+        }
+        count = Math.min(count, rows);
+        if (count <= 0) {
+            return false;
+        }
+        boolean overflow = maxColumnHeight() > rows - count;
+        raiseRows(count);
+        for (int i = rows - count; i < rows; i++) {
+            int slot = slot(i);
+            int index = slot * words;
+            Arrays.fill(rowMasks, index, index + words - 1, -1L);
+            rowMasks[index + words - 1] = lastWordMask;
+            rowMasks[index + holeColumn / Long.SIZE] &= ~(1L << holeColumn);
+            byte[] colorRow = writableColors(slot);
+            Arrays.fill(colorRow, (byte) GameConstants.GARBAGE_COLOR);
+            colorRow[holeColumn] = 0;
+        }
+        if (overflow) {
+            Arrays.fill(columnHeights, rows);
+            lowerColumnHeights();
+            stats.rebuild();
+            markDirty(0, rows - 1);
+        } else {
+            for (int column = 0; column < columns; column++) {
+                if (column != holeColumn || columnHeights[column] > 0) {
+                    columnHeights[column] += count;
+                }
+            }
+            stats.garbageAdded(count, holeColumn);
+            markDirty(rows - maxColumnHeight(), rows - 1);
+        }
+        shiftTouchedRows(count);
+        if (currentOrientation == null) {
+            return overflow;
+        }
+        return !liftBrickClear(count) || overflow;
+    }
+
+    /**
+     * Moves every row up by {@code count}, so the top {@code count} rows come round as the
+     * bottom rows for {@link #addGarbageRows} to overwrite. The slots are moved here; the
+     * masks of the rows that come round are left as they were.
+     */
+    void raiseRows(int count) {
+        long[] pushedMasks = Arrays.copyOf(rowMasks, count * words);
+        byte[][] pushedOff = Arrays.copyOf(colors, count);
+        boolean[] pushedShared = Arrays.copyOf(sharedRows, count);
+        System.arraycopy(rowMasks, count * words, rowMasks, 0, (rows - count) * words);
+        System.arraycopy(colors, count, colors, 0, rows - count);
+        System.arraycopy(sharedRows, count, sharedRows, 0, rows - count);
+        System.arraycopy(pushedMasks, 0, rowMasks, (rows - count) * words, count * words);
+        System.arraycopy(pushedOff, 0, colors, rows - count, count);
+        System.arraycopy(pushedShared, 0, sharedRows, rows - count, count);
+    }
+
+    /**
+     * Keeps the touched range on the same blocks after the stack moved up.
+     */
+    private void shiftTouchedRows(int count) {
+        if (touchedBottom < 0) {
+            return;
+        }
+        touchedTop = Math.max(0, touchedTop - count);
+        touchedBottom -= count;
+        if (touchedBottom < 0) {
+            resetTouchedRows();
+        }
+    }
+
+    /**
+     * Lifts the falling brick by the fewest rows, at most {@code count}, that clear it of the stack.
+     *
+     * @return false if no such lift keeps the brick on the board
+     */
+    private boolean liftBrickClear(int count) {
+        for (int lift = 0; lift <= count; lift++) {
+            if (!collides(currentOrientation, offsetX, offsetY - lift)) {
+                offsetY -= lift;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the skyline after a clear. Column tops only move down, so each column is
+     * rescanned from its old top until the first filled cell.
+     */
+    private void lowerColumnHeights() {
+        for (int column = 0; column < columns; column++) {
+            if (columnHeights[column] == 0) {
+                continue;
+            }
+            int row = rows - columnHeights[column];
+            while (row < rows && !filled(slot(row), column)) {
+                row++;
+            }
+            columnHeights[column] = rows - row;
+        }
+    }
+
+    private int maxColumnHeight() {
+        int max = 0;
+        for (int height : columnHeights) {
+            max = Math.max(max, height);
+        }
+        return max;
+    }
+
+    private void markDirty(int top, int bottom) {
+        dirtyTop = Math.min(dirtyTop, top);
+        dirtyBottom = Math.max(dirtyBottom, bottom);
+        staleTop = Math.min(staleTop, top);
+        staleBottom = Math.max(staleBottom, bottom);
+    }
+
+    @Override
+    public int getDirtyTop() {
+        return dirtyTop;
+    }
+
+    @Override
+    public int getDirtyBottom() {
+        return dirtyBottom;
+    }
+
+    @Override
+    public void clearDirtyRows() {
+        dirtyTop = rows;
+        dirtyBottom = -1;
+    }
+
+    private void resetTouchedRows() {
+        touchedTop = rows;
+        touchedBottom = -1;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        for (int slot = 0; slot < rows; slot++) {
+            zeroRow(slot);
+        }
+        Arrays.fill(columnHeights, 0);
+        stats.rebuild();
+        resetTouchedRows();
+        markDirty(0, rows - 1);
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public int[][] getSecondNextBrickData() {
+        return brickGenerator.getSecondNextBrick().getRotationTable().getOrientation(0).copyShape();
+    }
+
+    @Override
+    public int[][] getThirdNextBrickData() {
+        return brickGenerator.getThirdNextBrick().getRotationTable().getOrientation(0).copyShape();
+    }
+
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getCurrentBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        Arrays.fill(sharedRows, true);
+        return new Snapshot(this);
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (!(snapshot instanceof Snapshot saved) || saved.boardClass != getClass()
+                || saved.colors.length != rows || saved.columnHeights.length != columns) {
+            throw new IllegalArgumentException("Snapshot was not taken from a " + rows + "x" + columns
+                    + " " + getClass().getSimpleName());
+        }
+        for (int row = 0; row < rows; row++) {
+            int slot = slot(row);
+            System.arraycopy(saved.rowMasks, row * words, rowMasks, slot * words, words);
+            colors[slot] = saved.colors[row];
+        }
+        Arrays.fill(sharedRows, true);
+        System.arraycopy(saved.columnHeights, 0, columnHeights, 0, columns);
+        stats.rebuild();
+        resetTouchedRows();
+        markDirty(0, rows - 1);
+        if (saved.getBrick() != null) {
+            brickRotator.setBrick(saved.getBrick(), saved.getRotation());
+            currentOrientation = brickRotator.getCurrentOrientation();
+        }
+        offsetX = saved.getOffsetX();
+        offsetY = saved.getOffsetY();
+        saved.restoreScore(score);
+        saved.restoreGenerator(brickGenerator);
+    }
+
+    /**
+     * Row masks and color row references in logical order and the skyline at the time of the
+     * snapshot, so it restores whichever slots the rows have moved to since. The color rows are
+     * never written again: the board copies a shared row before writing.
+     */
+    private static final class Snapshot extends BoardSnapshot {
+        private final Class<?> boardClass;
+        private final long[] rowMasks;
+        private final byte[][] colors;
+        private final int[] columnHeights;
+
+        Snapshot(MaskBoard board) {
+            super(board.getCurrentBrick(), board.getCurrentRotation(), board.offsetX, board.offsetY,
+                    board.score.getValue(), board.brickGenerator);
+            boardClass = board.getClass();
+            int words = board.words;
+            rowMasks = new long[board.rows * words];
+            colors = new byte[board.rows][];
+            for (int row = 0; row < board.rows; row++) {
+                int slot = board.slot(row);
+                System.arraycopy(board.rowMasks, slot * words, rowMasks, row * words, words);
+                colors[row] = board.colors[slot];
+            }
+            columnHeights = board.columnHeights.clone();
+        }
+    }
+}
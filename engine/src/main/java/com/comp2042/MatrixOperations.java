@@ -1,7 +1,8 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickOrientation;
+
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,9 +28,24 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks whether a precomputed brick orientation overlaps filled or out-of-bounds cells.
+     * Walks only the occupied cells, so it does no work for the empty part of the shape.
+     */
+    public static boolean intersect(final int[][] matrix, final BrickOrientation brick, int x, int y) {
+        for (int i = 0; i < brick.getCellCount(); i++) {
+            int targetX = x + brick.getCellX(i);
+            int targetY = y + brick.getCellY(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
-        if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
+        if (targetX >= 0 && targetY >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
             returnValue = false;
         }
         return returnValue;
@@ -63,7 +79,8 @@ public class MatrixOperations {
     public static ClearRow checkRemoving(final int[][] matrix) {
         int[][] tmp = new int[matrix.length][matrix[0].length];
         Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
+        int[] clearedRows = new int[matrix.length];
+        int linesRemoved = 0;
 
         for (int i = 0; i < matrix.length; i++) {
             int[] tmpRow = new int[matrix[i].length];
@@ -75,7 +92,7 @@ public class MatrixOperations {
                 tmpRow[j] = matrix[i][j];
             }
             if (rowToClear) {
-                clearedRows.add(i);
+                clearedRows[linesRemoved++] = i;
             } else {
                 newRows.add(tmpRow);
             }
@@ -88,8 +105,14 @@ public class MatrixOperations {
                 break;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return new ClearRow(clearedRows, linesRemoved, tmp, scoreBonus(linesRemoved));
+    }
+
+    /**
+     * Score awarded for clearing the given number of rows with one lock.
+     */
+    public static int scoreBonus(int linesRemoved) {
+        return 50 * linesRemoved * linesRemoved;
     }
 
     public static List<int[][]> deepCopyList(List<int[][]> list){
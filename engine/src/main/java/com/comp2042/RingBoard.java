@@ -0,0 +1,95 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+/**
+ * Bitmask board whose rows live in a circular buffer. Logical row {@code r} (0 is the top)
+ * is stored at physical slot {@code (top + r) % rows}, so moving the whole stack is a change
+ * of {@code top} rather than a copy. With {@code top} at 0 it is a {@link BitBoard}; only the
+ * slot mapping, the choice of compaction and garbage insertion differ.
+ *
+ * <p>A line clear compacts whichever side of the cleared rows is shorter: rows above move down
+ * as on a {@link BitBoard}, or rows below move up and the buffer is rotated so the cleared
+ * slots come round to the top. Clears near the bottom of the board, the common case, touch
+ * only the cleared rows. Garbage pushed in from the bottom is a rotation plus filling the new
+ * rows, whatever the height of the stack.
+ */
+public class RingBoard extends MaskBoard {
+
+    // Physical slot of logical row 0
+    private int top;
+
+    /**
+     * Creates a new ring board that deals from a clock-seeded {@link SevenBagGenerator}.
+     *
+     * @param rows Number of rows on the board (including hidden rows)
+     * @param columns Number of columns on the board
+     */
+    public RingBoard(int rows, int columns) {
+        this(rows, columns, new SevenBagGenerator());
+    }
+
+    /**
+     * Creates a ring board that deals bricks from the given generator,
+     * e.g. a seeded {@link SevenBagGenerator} for reproducible games.
+     */
+    public RingBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        super(rows, columns, brickGenerator);
+    }
+
+    @Override
+    int slot(int row) {
+        int index = top + row;
+        return index >= rows ? index - rows : index;
+    }
+
+    /**
+     * Moves the survivors on the shorter side of the cleared rows. When that is the side below,
+     * the buffer is then rotated so the emptied slots become the top rows.
+     */
+    @Override
+    void compact(int highestFull, int lowestFull, int[] clearedRows) {
+        if (rows - highestFull <= lowestFull + 1) {
+            compactUp(highestFull, clearedRows);
+            top = slot(rows - clearedRows.length);
+        } else {
+            compactDown(lowestFull, clearedRows);
+        }
+    }
+
+    /**
+     * Moves the survivors below the highest cleared row up over the cleared rows,
+     * leaving the emptied slots at the bottom for the caller to rotate round to the top.
+     */
+    private void compactUp(int highestFull, int[] clearedRows) {
+        int found = 0;
+        int target = highestFull;
+        for (int i = highestFull; i < rows; i++) {
+            if (isFull(slot(i))) {
+                clearedRows[found++] = i;
+                zeroRow(slot(i));
+                continue;
+            }
+            if (target != i) {
+                swapSlots(slot(target), slot(i));
+            }
+            target++;
+        }
+    }
+
+    /**
+     * Rotates the buffer so the top rows come round as the new bottom rows. Nothing is copied.
+     */
+    @Override
+    void raiseRows(int count) {
+        top = slot(count);
+    }
+
+    /**
+     * @return Physical slot of logical row 0
+     */
+    int getTop() {
+        return top;
+    }
+}
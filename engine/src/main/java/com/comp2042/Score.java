@@ -0,0 +1,18 @@
+package com.comp2042;
+
+public final class Score {
+
+    private int score;
+
+    public int getValue() {
+        return score;
+    }
+
+    public void add(int i) {
+        score += i;
+    }
+
+    public void reset() {
+        score = 0;
+    }
+}
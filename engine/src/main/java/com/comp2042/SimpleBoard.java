@@ -0,0 +1,502 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickOrientation;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+import java.util.Arrays;
+
+public class SimpleBoard implements Board {
+
+    private final int rows;
+    private final int columns;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final int[][] currentGameMatrix;
+    // Occupied cells per row, kept in step with currentGameMatrix so full rows need no scan
+    private final int[] rowFill;
+    // Stack height per column (skyline), kept in step with merges and clears
+    private final int[] columnHeights;
+    // Rows also referenced by a snapshot; such a row is copied before it is next written
+    private final boolean[] sharedRows;
+    // Zeroed row that emptied shared rows point to, so clearing them allocates nothing
+    private final int[] emptyRow;
+    // Holes, wells, bumpiness and row transitions, kept in step with merges, clears and garbage
+    private final BoardStats stats;
+    // Rows written by merges since the last clearRows(); only these can have become full
+    private int touchedTop;
+    private int touchedBottom;
+    // Rows changed since the last clearDirtyRows(), so views can redraw only those
+    private int dirtyTop;
+    private int dirtyBottom;
+    private int offsetX;
+    private int offsetY;
+    private final Score score;
+
+    /**
+     * Creates a board that deals from a clock-seeded {@link SevenBagGenerator}.
+     */
+    public SimpleBoard(int rows, int columns) {
+        this(rows, columns, new SevenBagGenerator());
+    }
+
+    /**
+     * Creates a board that deals bricks from the given generator,
+     * e.g. a seeded {@link SevenBagGenerator} for reproducible games.
+     */
+    public SimpleBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        this.rows = rows;
+        this.columns = columns;
+        currentGameMatrix = new int[rows][columns];
+        rowFill = new int[rows];
+        columnHeights = new int[columns];
+        sharedRows = new boolean[rows];
+        emptyRow = new int[columns];
+        stats = new BoardStats(rows, columns, columnHeights, new BoardStats.Cells() {
+            @Override
+            public boolean isFilled(int row, int column) {
+                return currentGameMatrix[row][column] != 0;
+            }
+
+            @Override
+            public int rowFill(int row) {
+                return rowFill[row];
+            }
+        });
+        resetTouchedRows();
+        clearDirtyRows();
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(offsetX, offsetY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(offsetX - 1, offsetY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(offsetX + 1, offsetY);
+    }
+
+    /**
+     * Moves the brick to the given offset if it fits.
+     * Collision is checked directly against the live board and the brick's shared orientation,
+     * so a move allocates nothing.
+     */
+    private boolean tryMove(int x, int y) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentOrientation(), x, y)) {
+            return false;
+        }
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextRotation();
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getOrientation(nextRotation), offsetX, offsetY);
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextRotation);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        offsetX = 4;
+        offsetY = 2;
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentOrientation(), offsetX, offsetY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), offsetX, offsetY,
+                brickGenerator.getNextBrick().getRotationTable().getOrientation(0).copyShape(), getLandingY());
+    }
+
+    /**
+     * Computes the landing row from the column heights and the brick's bottom profile.
+     * Falls back to a row-by-row scan only when the brick sits below the skyline (under an overhang).
+     */
+    @Override
+    public int getLandingY() {
+        BrickOrientation orientation = brickRotator.getCurrentOrientation();
+        int landingY = Integer.MAX_VALUE;
+        for (int x = orientation.getMinX(); x <= orientation.getMaxX(); x++) {
+            int bottom = orientation.getColumnBottom(x);
+            if (bottom < 0) {
+                continue;
+            }
+            int surface = rows - columnHeights[offsetX + x];
+            if (offsetY + bottom >= surface) {
+                return scanLandingY(orientation);
+            }
+            landingY = Math.min(landingY, surface - 1 - bottom);
+        }
+        return landingY == Integer.MAX_VALUE ? offsetY : landingY;
+    }
+
+    private int scanLandingY(BrickOrientation orientation) {
+        int y = offsetY;
+        while (!MatrixOperations.intersect(currentGameMatrix, orientation, offsetX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public int hardDrop() {
+        int landingY = getLandingY();
+        int distance = landingY - offsetY;
+        offsetY = landingY;
+        return distance;
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
+    }
+
+    @Override
+    public BoardStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickOrientation orientation = brickRotator.getCurrentOrientation();
+        int top = offsetY + orientation.getMinY();
+        int bottom = offsetY + orientation.getMaxY();
+        // Row transitions: take out the merged rows as they were, and add them back once written
+        for (int row = top; row <= bottom; row++) {
+            stats.rowChanging(row);
+        }
+        for (int i = 0; i < orientation.getCellCount(); i++) {
+            int row = offsetY + orientation.getCellY(i);
+            int column = offsetX + orientation.getCellX(i);
+            int[] cells = writableRow(row);
+            // A held brick can be swapped in over the stack, so only count cells that were empty
+            if (cells[column] == 0) {
+                rowFill[row]++;
+                stats.cellAdded(column);
+            }
+            cells[column] = orientation.getColor();
+            columnHeights[column] = Math.max(columnHeights[column], rows - row);
+        }
+        for (int row = top; row <= bottom; row++) {
+            stats.rowChanged(row);
+        }
+        stats.columnsChanged(offsetX + orientation.getMinX(), offsetX + orientation.getMaxX());
+        touchedTop = Math.min(touchedTop, top);
+        touchedBottom = Math.max(touchedBottom, bottom);
+        markDirty(top, bottom);
+    }
+
+    /**
+     * Removes full rows in place.
+     * Only rows touched since the last call are checked, and rows are compacted by moving
+     * row references down; cleared row arrays are zeroed and reused at the top.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int linesRemoved = 0;
+        int lowestFull = -1;
+        for (int row = touchedTop; row <= touchedBottom; row++) {
+            if (rowFill[row] == columns) {
+                linesRemoved++;
+                lowestFull = row;
+            }
+        }
+        resetTouchedRows();
+        if (linesRemoved == 0) {
+            return ClearRow.none();
+        }
+
+        // Every row from the top of the stack down to the lowest cleared row shifts
+        markDirty(rows - maxColumnHeight(), lowestFull);
+        int[] clearedRows = new int[linesRemoved];
+        int remaining = linesRemoved;
+        int target = lowestFull;
+        for (int row = lowestFull; row >= 0; row--) {
+            if (rowFill[row] == columns) {
+                clearedRows[--remaining] = row;
+                zeroRow(row);
+                continue;
+            }
+            if (target != row) {
+                int[] spare = currentGameMatrix[target];
+                currentGameMatrix[target] = currentGameMatrix[row];
+                currentGameMatrix[row] = spare;
+                boolean spareShared = sharedRows[target];
+                sharedRows[target] = sharedRows[row];
+                sharedRows[row] = spareShared;
+                rowFill[target] = rowFill[row];
+                rowFill[row] = 0;
+            }
+            target--;
+        }
+        lowerColumnHeights();
+        stats.rowsCleared(linesRemoved);
+        return new ClearRow(clearedRows, linesRemoved, null, MatrixOperations.scoreBonus(linesRemoved));
+    }
+
+    /**
+     * @return The row for writing, first copied if a snapshot still references it
+     */
+    private int[] writableRow(int row) {
+        if (sharedRows[row]) {
+            currentGameMatrix[row] = currentGameMatrix[row].clone();
+            sharedRows[row] = false;
+        }
+        return currentGameMatrix[row];
+    }
+
+    /**
+     * Empties a row. A row a snapshot references is swapped for the shared empty row instead of zeroed.
+     */
+    private void zeroRow(int row) {
+        if (sharedRows[row]) {
+            currentGameMatrix[row] = emptyRow;
+        } else {
+            Arrays.fill(currentGameMatrix[row], 0);
+        }
+        rowFill[row] = 0;
+    }
+
+    /**
+     * Rotates the row references up by {@code count}, so the rows pushed off the top are
+     * reused as the new bottom rows, then fills those as garbage.
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= columns) {
+            throw new IllegalArgumentException("Hole column " + holeColumn + " is outside the board");
+        }
+        count = Math.min(count, rows);
+        if (count <= 0) {
+            return false;
+        }
+        boolean overflow = maxColumnHeight() > rows - count;
+        int[][] pushedOff = Arrays.copyOf(currentGameMatrix, count);
+        boolean[] pushedShared = Arrays.copyOf(sharedRows, count);
+        System.arraycopy(currentGameMatrix, count, currentGameMatrix, 0, rows - count);
+        System.arraycopy(sharedRows, count, sharedRows, 0, rows - count);
+        System.arraycopy(rowFill, count, rowFill, 0, rows - count);
+        System.arraycopy(pushedOff, 0, currentGameMatrix, rows - count, count);
+        System.arraycopy(pushedShared, 0, sharedRows, rows - count, count);
+        for (int row = rows - count; row < rows; row++) {
+            int[] cells = writableRow(row);
+            Arrays.fill(cells, GameConstants.GARBAGE_COLOR);
+            cells[holeColumn] = 0;
+            rowFill[row] = columns - 1;
+        }
+        if (overflow) {
+            Arrays.fill(columnHeights, rows);
+            lowerColumnHeights();
+            stats.rebuild();
+            markDirty(0, rows - 1);
+        } else {
+            for (int column = 0; column < columns; column++) {
+                if (column != holeColumn || columnHeights[column] > 0) {
+                    columnHeights[column] += count;
+                }
+            }
+            stats.garbageAdded(count, holeColumn);
+            markDirty(rows - maxColumnHeight(), rows - 1);
+        }
+        if (touchedBottom >= 0) {
+            touchedTop = Math.max(0, touchedTop - count);
+            touchedBottom -= count;
+            if (touchedBottom < 0) {
+                resetTouchedRows();
+            }
+        }
+        if (brickRotator.getCurrentBrick() == null) {
+            return overflow;
+        }
+        return !liftBrickClear(count) || overflow;
+    }
+
+    /**
+     * Lifts the falling brick by the fewest rows, at most {@code count}, that clear it of the stack.
+     *
+     * @return false if no such lift keeps the brick on the board
+     */
+    private boolean liftBrickClear(int count) {
+        BrickOrientation orientation = brickRotator.getCurrentOrientation();
+        for (int lift = 0; lift <= count; lift++) {
+            if (!MatrixOperations.intersect(currentGameMatrix, orientation, offsetX, offsetY - lift)) {
+                offsetY -= lift;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the skyline after a clear. Column tops only move down, so each column is
+     * rescanned from its old top until the first filled cell.
+     */
+    private void lowerColumnHeights() {
+        for (int column = 0; column < columns; column++) {
+            if (columnHeights[column] == 0) {
+                continue;
+            }
+            int row = rows - columnHeights[column];
+            while (row < rows && currentGameMatrix[row][column] == 0) {
+                row++;
+            }
+            columnHeights[column] = rows - row;
+        }
+    }
+
+    private int maxColumnHeight() {
+        int max = 0;
+        for (int height : columnHeights) {
+            max = Math.max(max, height);
+        }
+        return max;
+    }
+
+    private void markDirty(int top, int bottom) {
+        dirtyTop = Math.min(dirtyTop, top);
+        dirtyBottom = Math.max(dirtyBottom, bottom);
+    }
+
+    @Override
+    public int getDirtyTop() {
+        return dirtyTop;
+    }
+
+    @Override
+    public int getDirtyBottom() {
+        return dirtyBottom;
+    }
+
+    @Override
+    public void clearDirtyRows() {
+        dirtyTop = rows;
+        dirtyBottom = -1;
+    }
+
+    private void resetTouchedRows() {
+        touchedTop = rows;
+        touchedBottom = -1;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+
+    @Override
+    public void newGame() {
+        for (int row = 0; row < rows; row++) {
+            zeroRow(row);
+        }
+        Arrays.fill(columnHeights, 0);
+        stats.rebuild();
+        resetTouchedRows();
+        markDirty(0, rows - 1);
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public int[][] getSecondNextBrickData() {
+        return brickGenerator.getSecondNextBrick().getRotationTable().getOrientation(0).copyShape();
+    }
+
+    @Override
+    public int[][] getThirdNextBrickData() {
+        return brickGenerator.getThirdNextBrick().getRotationTable().getOrientation(0).copyShape();
+    }
+
+    @Override
+    public boolean setBrick(Brick brick, int rotation) {
+        brickRotator.setBrick(brick, rotation);
+        offsetX = 4;
+        offsetY = 2;
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentOrientation(), offsetX, offsetY);
+    }
+
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getCurrentBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        Arrays.fill(sharedRows, true);
+        return new Snapshot(this);
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (!(snapshot instanceof Snapshot saved)
+                || saved.rows.length != rows || saved.columnHeights.length != columns) {
+            throw new IllegalArgumentException("Snapshot was not taken from a " + rows + "x" + columns + " SimpleBoard");
+        }
+        System.arraycopy(saved.rows, 0, currentGameMatrix, 0, rows);
+        Arrays.fill(sharedRows, true);
+        System.arraycopy(saved.rowFill, 0, rowFill, 0, rows);
+        System.arraycopy(saved.columnHeights, 0, columnHeights, 0, columns);
+        stats.rebuild();
+        resetTouchedRows();
+        markDirty(0, rows - 1);
+        if (saved.getBrick() != null) {
+            brickRotator.setBrick(saved.getBrick(), saved.getRotation());
+        }
+        offsetX = saved.getOffsetX();
+        offsetY = saved.getOffsetY();
+        saved.restoreScore(score);
+        saved.restoreGenerator(brickGenerator);
+    }
+
+    /**
+     * Row references and the per-row and per-column counters at the time of the snapshot.
+     * The rows themselves are never written again: the board copies a shared row before writing.
+     */
+    private static final class Snapshot extends BoardSnapshot {
+        private final int[][] rows;
+        private final int[] rowFill;
+        private final int[] columnHeights;
+
+        Snapshot(SimpleBoard board) {
+            super(board.getCurrentBrick(), board.getCurrentRotation(), board.offsetX, board.offsetY,
+                    board.score.getValue(), board.brickGenerator);
+            rows = board.currentGameMatrix.clone();
+            rowFill = board.rowFill.clone();
+            columnHeights = board.columnHeights.clone();
+        }
+    }
+}
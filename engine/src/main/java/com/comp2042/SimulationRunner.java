@@ -0,0 +1,246 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line entry point that plays many headless games in parallel and reports throughput.
+ * Games run on a work-stealing {@link ForkJoinPool}; each game gets its own reproducible seed,
+ * split from the base seed, so a run with the same arguments deals the same bricks.
+ *
+ * <pre>
+ * java -cp CW2025-engine.jar com.comp2042.SimulationRunner --games 1000 --bot greedy --seed 42
+ * </pre>
+ *
+ * Options: {@code --games N}, {@code --threads N} (default: all cores), {@code --seed N},
+ * {@code --bot greedy|random}, {@code --board SIMPLE|BITBOARD|RING}, {@code --max-pieces N}
+ * (ends a game that has not topped out), {@code --garbage N} (pushes one garbage row in from
+ * the bottom every N pieces, as in a cheese race) and {@code --per-game} (prints one line per game).
+ */
+public final class SimulationRunner {
+
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private enum Bot {
+        /** Plays the best placement found by {@link GreedyBot} */
+        GREEDY,
+        /** Sends a few random inputs per gravity tick, like a scripted fuzzer */
+        RANDOM
+    }
+
+    private int games = 100;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1;
+    private Bot bot = Bot.GREEDY;
+    private BoardType boardType = BoardType.fromSystemProperty();
+    private int maxPieces = 1000;
+    private int garbageInterval;
+    private boolean perGame;
+
+    private SimulationRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        SimulationRunner runner = new SimulationRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: SimulationRunner [--games N] [--threads N] [--seed N] "
+                    + "[--bot greedy|random] [--board SIMPLE|BITBOARD|RING] [--max-pieces N] [--garbage N] [--per-game]");
+            System.exit(2);
+        }
+        runner.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--per-game")) {
+                perGame = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--games" -> games = positive(option, value);
+                case "--threads" -> threads = positive(option, value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--bot" -> bot = Bot.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--board" -> boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--max-pieces" -> maxPieces = positive(option, value);
+                case "--garbage" -> garbageInterval = positive(option, value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    private static int positive(String option, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(option + " must be positive: " + value);
+        }
+        return parsed;
+    }
+
+    private void run() throws InterruptedException, ExecutionException {
+        // Split all seeds up front so game i gets the same seed whatever the scheduling
+        SevenBagGenerator root = new SevenBagGenerator(seed);
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            int index = i;
+            SevenBagGenerator generator = root.split();
+            tasks.add(() -> playGame(index, generator));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        GameResult[] results = new GameResult[games];
+        try {
+            List<Future<GameResult>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < games; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        if (perGame) {
+            for (GameResult result : results) {
+                System.out.printf(Locale.ROOT, "game %d seed %016x: %d pieces, %d lines, score %d, %.2f ms%s%n",
+                        result.index, result.seed, result.pieces, result.lines, result.score,
+                        result.wallNanos / 1e6, result.toppedOut ? "" : " (piece cap)");
+            }
+        }
+        report(results, wallNanos);
+    }
+
+    private GameResult playGame(int index, SevenBagGenerator generator) {
+        long start = System.nanoTime();
+        Board board = boardType.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, generator);
+        GameEngine engine = new GameEngine(board);
+        engine.createNewGame();
+        Random random = new Random(generator.getSeed());
+        GreedyBot greedy = bot == Bot.GREEDY ? new GreedyBot() : null;
+        int garbageDue = garbageInterval;
+        while (!engine.isGameOver() && engine.getPiecesPlaced() < maxPieces) {
+            if (greedy != null) {
+                greedy.playPiece(board, engine);
+            } else {
+                playRandomTick(engine, random);
+            }
+            if (garbageInterval > 0 && engine.getPiecesPlaced() >= garbageDue) {
+                engine.addGarbage(1, random.nextInt(GameConstants.BOARD_WIDTH));
+                garbageDue += garbageInterval;
+            }
+        }
+        return new GameResult(index, generator.getSeed(), engine.getPiecesPlaced(), engine.getLinesCleared(),
+                engine.getScore(), engine.isGameOver(), System.nanoTime() - start);
+    }
+
+    private static void playRandomTick(GameEngine engine, Random random) {
+        int inputs = random.nextInt(4);
+        for (int i = 0; i < inputs; i++) {
+            switch (random.nextInt(8)) {
+                case 0, 1 -> engine.onLeftEvent(LEFT);
+                case 2, 3 -> engine.onRightEvent(RIGHT);
+                case 4, 5 -> engine.onRotateEvent(ROTATE);
+                case 6 -> engine.onHoldEvent(HOLD);
+                default -> engine.onHardDropEvent(HARD_DROP);
+            }
+        }
+        engine.onDownEvent(GRAVITY);
+    }
+
+    private void report(GameResult[] results, long wallNanos) {
+        long totalPieces = 0;
+        long totalLines = 0;
+        int toppedOut = 0;
+        long[] scores = new long[results.length];
+        long[] lines = new long[results.length];
+        long[] gameNanos = new long[results.length];
+        for (int i = 0; i < results.length; i++) {
+            GameResult result = results[i];
+            totalPieces += result.pieces;
+            totalLines += result.lines;
+            if (result.toppedOut) {
+                toppedOut++;
+            }
+            scores[i] = result.score;
+            lines[i] = result.lines;
+            gameNanos[i] = result.wallNanos;
+        }
+        double seconds = wallNanos / 1e9;
+
+        System.out.printf(Locale.ROOT, "%d games, %s bot, %s board, %d threads, seed %d%s: %.3f s wall%n",
+                results.length, bot.name().toLowerCase(Locale.ROOT), boardType, threads, seed,
+                garbageInterval > 0 ? ", garbage every " + garbageInterval + " pieces" : "", seconds);
+        System.out.printf(Locale.ROOT, "pieces      %d total, %.0f pieces/s%n", totalPieces, totalPieces / seconds);
+        System.out.printf(Locale.ROOT, "lines       %d total, %.1f per game%n",
+                totalLines, (double) totalLines / results.length);
+        System.out.printf(Locale.ROOT, "topped out  %d of %d (cap %d pieces)%n", toppedOut, results.length, maxPieces);
+        System.out.println("              min      p50      p90      p99      max     mean");
+        printDistribution("lines", lines, 1);
+        printDistribution("score", scores, 1);
+        printDistribution("game ms", gameNanos, 1e6);
+    }
+
+    private static void printDistribution(String label, long[] values, double scale) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        System.out.printf(Locale.ROOT, "%-8s %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n", label,
+                sorted[0] / scale, percentile(sorted, 0.50) / scale, percentile(sorted, 0.90) / scale,
+                percentile(sorted, 0.99) / scale, sorted[sorted.length - 1] / scale,
+                sum / sorted.length / scale);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static final class GameResult {
+        private final int index;
+        private final long seed;
+        private final int pieces;
+        private final int lines;
+        private final int score;
+        private final boolean toppedOut;
+        private final long wallNanos;
+
+        private GameResult(int index, long seed, int pieces, int lines, int score, boolean toppedOut,
+                           long wallNanos) {
+            this.index = index;
+            this.seed = seed;
+            this.pieces = pieces;
+            this.lines = lines;
+            this.score = score;
+            this.toppedOut = toppedOut;
+            this.wallNanos = wallNanos;
+        }
+    }
+}
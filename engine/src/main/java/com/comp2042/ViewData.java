@@ -6,12 +6,23 @@ public final class ViewData {
     private final int xPosition;
     private final int yPosition;
     private final int[][] nextBrickData;
+    private final int ghostYPosition;
 
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
+        this(brickData, xPosition, yPosition, nextBrickData, yPosition);
+    }
+
+    /**
+     * Creates view data that also carries the row the brick would land on.
+     *
+     * @param ghostYPosition The Y position of the ghost (landing) brick
+     */
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
+        this.ghostYPosition = ghostYPosition;
     }
 
     public int[][] getBrickData() {
@@ -26,6 +37,13 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * @return The Y position where the brick would land if hard dropped
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
     public int[][] getNextBrickData() {
         return MatrixOperations.copy(nextBrickData);
     }
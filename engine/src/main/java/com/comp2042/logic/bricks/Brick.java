@@ -0,0 +1,16 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+public interface Brick {
+
+    List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the shared, precomputed orientations of this brick.
+     * Unlike {@link #getShapeMatrix()} this never copies.
+     *
+     * @return The brick's rotation table
+     */
+    RotationTable getRotationTable();
+}
@@ -0,0 +1,38 @@
+package com.comp2042.logic.bricks;
+
+public interface BrickGenerator {
+
+    Brick getBrick();
+
+    Brick getNextBrick();
+
+    Brick getSecondNextBrick();
+
+    Brick getThirdNextBrick();
+
+    /**
+     * Looks at an upcoming brick without dealing it.
+     *
+     * @param depth 0 for the next brick, 1 for the one after, and so on
+     * @return The brick at that depth
+     */
+    Brick peekBrick(int depth);
+
+    /**
+     * @return The index of the next brick {@link #getBrick()} deals (bricks dealt so far),
+     *         or -1 if this generator cannot {@link #seek(long)}
+     */
+    default long getPosition() {
+        return -1;
+    }
+
+    /**
+     * Moves to an absolute position in the sequence, e.g. to restore a snapshot.
+     *
+     * @param position The index of the next brick to deal, as returned by {@link #getPosition()}
+     * @throws UnsupportedOperationException if this generator cannot seek
+     */
+    default void seek(long position) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot seek");
+    }
+}
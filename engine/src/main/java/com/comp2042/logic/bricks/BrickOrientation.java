@@ -0,0 +1,159 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed description of one rotation of a brick.
+ * Holds the occupied cell coordinates, the bounding box and one bitmask per shape row,
+ * so callers can test and place a brick without copying its shape matrix.
+ */
+public final class BrickOrientation {
+
+    private final int[][] shape;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowMasks;
+    private final int[] columnBottoms;
+    private final int color;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    BrickOrientation(int[][] shape) {
+        this.shape = MatrixOperations.copy(shape);
+
+        int cells = 0;
+        for (int[] row : shape) {
+            for (int value : row) {
+                if (value != 0) {
+                    cells++;
+                }
+            }
+        }
+
+        cellX = new int[cells];
+        cellY = new int[cells];
+        rowMasks = new int[shape.length];
+        columnBottoms = new int[shape.length == 0 ? 0 : shape[0].length];
+        Arrays.fill(columnBottoms, -1);
+        int cellColor = 0;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        int index = 0;
+        for (int y = 0; y < shape.length; y++) {
+            for (int x = 0; x < shape[y].length; x++) {
+                if (shape[y][x] != 0) {
+                    cellX[index] = x;
+                    cellY[index] = y;
+                    index++;
+                    rowMasks[y] |= 1 << x;
+                    columnBottoms[x] = Math.max(columnBottoms[x], y);
+                    cellColor = shape[y][x];
+                    left = Math.min(left, x);
+                    right = Math.max(right, x);
+                    top = Math.min(top, y);
+                    bottom = Math.max(bottom, y);
+                }
+            }
+        }
+        color = cellColor;
+        minX = left;
+        maxX = right;
+        minY = top;
+        maxY = bottom;
+    }
+
+    /**
+     * @return The number of occupied cells
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * @param cell The cell index, from 0 to {@link #getCellCount()} - 1
+     * @return The column of the cell within the shape matrix
+     */
+    public int getCellX(int cell) {
+        return cellX[cell];
+    }
+
+    /**
+     * @param cell The cell index, from 0 to {@link #getCellCount()} - 1
+     * @return The row of the cell within the shape matrix
+     */
+    public int getCellY(int cell) {
+        return cellY[cell];
+    }
+
+    /**
+     * @return The number of rows in the shape matrix
+     */
+    public int getRowCount() {
+        return rowMasks.length;
+    }
+
+    /**
+     * @param row The row within the shape matrix
+     * @return A mask with bit {@code x} set for every occupied column {@code x} of that row
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the bottom profile of the brick: the lowest occupied row in a column.
+     *
+     * @param column The column within the shape matrix
+     * @return The lowest occupied row in that column, or -1 if the column is empty
+     */
+    public int getColumnBottom(int column) {
+        return columnBottoms[column];
+    }
+
+    /**
+     * @return The color code of the brick's cells
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the color code stored in one cell of the shape matrix.
+     *
+     * @param row The row within the shape matrix
+     * @param column The column within the shape matrix
+     * @return The color code, or 0 for an empty cell
+     */
+    public int getValue(int row, int column) {
+        return shape[row][column];
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return A fresh copy of the shape matrix, indexed as [row][column]
+     */
+    public int[][] copyShape() {
+        return MatrixOperations.copy(shape);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 
 public class RandomBrickGenerator implements BrickGenerator {
@@ -85,4 +86,14 @@ public class RandomBrickGenerator implements BrickGenerator {
         Object[] bricksArray = nextBricks.toArray();
         return (Brick) bricksArray[2];
     }
+
+    @Override
+    public Brick peekBrick(int depth) {
+        ensureNextBricksQueue(depth + 1);
+        Iterator<Brick> iterator = nextBricks.iterator();
+        for (int i = 0; i < depth; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
 }
@@ -0,0 +1,60 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only table of every orientation of a brick type.
+ * Each brick builds its table once at class load and shares it between all instances.
+ */
+public final class RotationTable {
+
+    private final BrickOrientation[] orientations;
+
+    private RotationTable(BrickOrientation[] orientations) {
+        this.orientations = orientations;
+    }
+
+    /**
+     * Builds a table from the shape matrices of each rotation, in rotation order.
+     *
+     * @param shapes The shape matrix of each rotation, indexed as [row][column]
+     * @return The precomputed table
+     */
+    static RotationTable of(int[][]... shapes) {
+        BrickOrientation[] orientations = new BrickOrientation[shapes.length];
+        for (int i = 0; i < shapes.length; i++) {
+            orientations[i] = new BrickOrientation(shapes[i]);
+        }
+        return new RotationTable(orientations);
+    }
+
+    /**
+     * @return The number of distinct orientations of this brick
+     */
+    public int getRotationCount() {
+        return orientations.length;
+    }
+
+    /**
+     * Gets an orientation by rotation index.
+     * Indices wrap around, so all four rotations resolve even for bricks with fewer distinct shapes.
+     *
+     * @param rotation The rotation index
+     * @return The shared orientation
+     */
+    public BrickOrientation getOrientation(int rotation) {
+        return orientations[Math.floorMod(rotation, orientations.length)];
+    }
+
+    /**
+     * @return Fresh copies of every orientation's shape matrix, in rotation order
+     */
+    List<int[][]> copyShapes() {
+        List<int[][]> shapes = new ArrayList<>(orientations.length);
+        for (BrickOrientation orientation : orientations) {
+            shapes.add(orientation.copyShape());
+        }
+        return shapes;
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seedable 7-bag brick generator.
+ * The piece sequence is a pure function of the seed: bag {@code k} is a shuffle driven by a
+ * SplitMix64 stream (the generator behind {@link SplittableRandom}) seeded from the game seed
+ * and {@code k}. That makes any piece index computable in constant time, so peeking at any
+ * depth and jumping ahead are O(1). Upcoming piece ids are buffered in a primitive ring.
+ */
+public class SevenBagGenerator implements BrickGenerator {
+
+    /** Number of distinct bricks in one bag */
+    public static final int BAG_SIZE = 7;
+
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /** Ring capacity; must be a power of two and hold at least two bags */
+    private static final int RING_CAPACITY = 16;
+    private static final int RING_MASK = RING_CAPACITY - 1;
+
+    private final long seed;
+    private final SplittableRandom splitter;
+
+    private final byte[] ring = new byte[RING_CAPACITY];
+    private long head;
+    private long buffered;
+
+    private final byte[] bagOrder = new byte[BAG_SIZE];
+    private long cachedBag = -1;
+
+    /**
+     * Creates a generator with a seed taken from the clock.
+     */
+    public SevenBagGenerator() {
+        this(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a generator whose piece sequence is fully determined by the seed.
+     *
+     * @param seed The seed; the same seed always produces the same sequence
+     */
+    public SevenBagGenerator(long seed) {
+        this.seed = seed;
+        this.splitter = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates an independent generator for a parallel game.
+     * Successive calls return generators with different, reproducible seeds.
+     *
+     * @return A new generator seeded from this generator's split stream
+     */
+    public SevenBagGenerator split() {
+        return new SevenBagGenerator(splitter.split().nextLong());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public long getPosition() {
+        return head;
+    }
+
+    /**
+     * Skips bricks without dealing them.
+     *
+     * @param count Number of bricks to skip
+     */
+    public void jumpAhead(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Cannot jump back " + count + " bricks");
+        }
+        seek(head + count);
+    }
+
+    @Override
+    public void seek(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Negative position " + position);
+        }
+        if (position < head || position > buffered) {
+            buffered = position;
+        }
+        head = position;
+    }
+
+    @Override
+    public Brick getBrick() {
+        int id = peekId(0);
+        head++;
+        return BRICKS[id];
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return peekBrick(0);
+    }
+
+    @Override
+    public Brick getSecondNextBrick() {
+        return peekBrick(1);
+    }
+
+    @Override
+    public Brick getThirdNextBrick() {
+        return peekBrick(2);
+    }
+
+    @Override
+    public Brick peekBrick(int depth) {
+        return BRICKS[peekId(depth)];
+    }
+
+    /**
+     * Gets the id (0 to 6, in I J L O S T Z order) of an upcoming brick without allocating.
+     *
+     * @param depth 0 for the next brick, 1 for the one after, and so on
+     * @return The brick id
+     */
+    public int peekId(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Negative peek depth " + depth);
+        }
+        long index = head + depth;
+        if (depth >= RING_CAPACITY) {
+            return pieceAt(index);
+        }
+        while (buffered <= index) {
+            ring[(int) (buffered & RING_MASK)] = (byte) pieceAt(buffered);
+            buffered++;
+        }
+        return ring[(int) (index & RING_MASK)];
+    }
+
+    /**
+     * Computes the brick id at an absolute position in the sequence.
+     */
+    private int pieceAt(long index) {
+        long bag = index / BAG_SIZE;
+        if (bag != cachedBag) {
+            shuffleBag(bag);
+        }
+        return bagOrder[(int) (index % BAG_SIZE)];
+    }
+
+    /**
+     * Fisher-Yates shuffle of one bag, driven by a SplitMix64 stream for that bag.
+     */
+    private void shuffleBag(long bag) {
+        for (int i = 0; i < BAG_SIZE; i++) {
+            bagOrder[i] = (byte) i;
+        }
+        long state = mix64(seed + (bag + 1) * GOLDEN_GAMMA);
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            state += GOLDEN_GAMMA;
+            int j = (int) ((mix64(state) >>> 33) % (i + 1));
+            byte swap = bagOrder[i];
+            bagOrder[i] = bagOrder[j];
+            bagOrder[j] = swap;
+        }
+        cachedBag = bag;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
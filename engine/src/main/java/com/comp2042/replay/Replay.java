@@ -0,0 +1,196 @@
+package com.comp2042.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded game: the brick seed plus every input with the gravity tick it happened on.
+ *
+ * <p>Inputs are stored as one unsigned varint each, {@code (ticksSincePreviousInput << 3) | type},
+ * so an input in the same tick as the previous one, or up to 15 ticks later, takes a single byte.
+ * The stream ends with an {@link #END} entry whose delta reaches the final tick.
+ *
+ * <p>File layout: magic {@code "TRP1"}, the seed as 8 bytes, then varints for the generator
+ * start position, input count, tick count and stream length, followed by the stream.
+ */
+public final class Replay {
+
+    /** Type codes 0 to 5 are the {@link com.comp2042.EventType} ordinals; this one ends the stream */
+    static final int END = 7;
+
+    static final int TYPE_BITS = 3;
+    static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    private static final int MAGIC = 0x54525031;
+
+    private final long seed;
+    private final long startPosition;
+    private final int inputCount;
+    private final long tickCount;
+    private final byte[] stream;
+
+    Replay(long seed, long startPosition, int inputCount, long tickCount, byte[] stream) {
+        this.seed = seed;
+        this.startPosition = startPosition;
+        this.inputCount = inputCount;
+        this.tickCount = tickCount;
+        this.stream = stream;
+    }
+
+    /**
+     * @return The seed of the {@link com.comp2042.logic.bricks.SevenBagGenerator} the game was dealt from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The generator position at the start of the game
+     */
+    public long getStartPosition() {
+        return startPosition;
+    }
+
+    /**
+     * @return Number of recorded inputs, not counting gravity ticks
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * @return Number of gravity ticks the game lasted
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return Size of the encoded input stream in bytes
+     */
+    public int getStreamLength() {
+        return stream.length;
+    }
+
+    byte[] stream() {
+        return stream;
+    }
+
+    /**
+     * Writes this replay in its binary format.
+     *
+     * @param out The stream to write to; it is flushed but not closed
+     * @throws IOException If writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeLong(seed);
+        writeVarLong(data, startPosition);
+        writeVarLong(data, inputCount);
+        writeVarLong(data, tickCount);
+        writeVarLong(data, stream.length);
+        data.write(stream);
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write(OutputStream)}.
+     *
+     * @param in The stream to read from; it is not closed
+     * @return The replay
+     * @throws IOException If reading fails or the data is not a replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        long seed = data.readLong();
+        long startPosition = readVarLong(data);
+        long inputCount = readVarLong(data);
+        long tickCount = readVarLong(data);
+        long length = readVarLong(data);
+        if (inputCount > Integer.MAX_VALUE || length > Integer.MAX_VALUE) {
+            throw new IOException("Replay too large: " + length + " bytes");
+        }
+        byte[] stream = new byte[(int) length];
+        data.readFully(stream);
+        return new Replay(seed, startPosition, (int) inputCount, tickCount, stream);
+    }
+
+    /**
+     * Saves this replay to a file, replacing any existing file.
+     *
+     * @param file The file to write
+     * @throws IOException If writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Loads a replay from a file.
+     *
+     * @param file The file to read
+     * @return The replay
+     * @throws IOException If reading fails or the file is not a replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Replay other)) {
+            return false;
+        }
+        return seed == other.seed && startPosition == other.startPosition
+                && inputCount == other.inputCount && tickCount == other.tickCount
+                && Arrays.equals(stream, other.stream);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(seed) * 31 + Arrays.hashCode(stream);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated replay");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in replay");
+    }
+}
@@ -0,0 +1,147 @@
+package com.comp2042.replay;
+
+import com.comp2042.Board;
+import com.comp2042.BoardType;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameConstants;
+import com.comp2042.GameEngine;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+/**
+ * Feeds a {@link Replay} back into an {@link InputEventListener}, one gravity tick per {@link #step()}.
+ * Each step first sends the inputs recorded on the current tick, then the gravity down event,
+ * which is the order they reached the listener while recording.
+ * Call {@link #step()} from a timer for normal speed or {@link #playToEnd()} for uncapped speed.
+ */
+public class ReplayPlayer {
+
+    private static final EventType[] TYPES = EventType.values();
+
+    private static final MoveEvent[] USER_EVENTS = new MoveEvent[TYPES.length];
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    static {
+        for (EventType type : TYPES) {
+            USER_EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final InputEventListener target;
+    private final byte[] stream;
+
+    private int offset;
+    private long tick;
+    private long nextTick;
+    private int nextType;
+
+    /**
+     * @param replay The replay to play
+     * @param target The listener to drive; it must be running a new game whose board deals from
+     *               {@link #createGenerator(Replay)}
+     */
+    public ReplayPlayer(Replay replay, InputEventListener target) {
+        this.target = target;
+        this.stream = replay.stream();
+        readNext();
+    }
+
+    /**
+     * Creates a generator positioned where the recorded game started.
+     *
+     * @param replay The replay
+     * @return A generator that deals the same bricks as the recorded game
+     */
+    public static SevenBagGenerator createGenerator(Replay replay) {
+        SevenBagGenerator generator = new SevenBagGenerator(replay.getSeed());
+        generator.seek(replay.getStartPosition());
+        return generator;
+    }
+
+    /**
+     * Re-simulates a replay headlessly at uncapped speed.
+     *
+     * @param replay The replay
+     * @param boardType The board implementation to simulate on
+     * @return The engine in its final state
+     */
+    public static GameEngine simulate(Replay replay, BoardType boardType) {
+        Board board = boardType.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH,
+                createGenerator(replay));
+        GameEngine engine = new GameEngine(board);
+        engine.createNewGame();
+        new ReplayPlayer(replay, engine).playToEnd();
+        return engine;
+    }
+
+    /**
+     * Plays the inputs of the current tick followed by its gravity event.
+     *
+     * @return The result of the gravity event, or null once the replay has finished
+     */
+    public DownData step() {
+        while (nextType != Replay.END && nextTick == tick) {
+            dispatch(nextType);
+            readNext();
+        }
+        if (isFinished()) {
+            return null;
+        }
+        tick++;
+        return target.onDownEvent(GRAVITY);
+    }
+
+    /**
+     * Plays every remaining tick without pausing.
+     */
+    public void playToEnd() {
+        while (!isFinished()) {
+            step();
+        }
+    }
+
+    public boolean isFinished() {
+        return nextType == Replay.END && nextTick <= tick;
+    }
+
+    /**
+     * @return Number of gravity ticks played so far
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    private void dispatch(int type) {
+        MoveEvent event = USER_EVENTS[type];
+        switch (TYPES[type]) {
+            case DOWN -> target.onDownEvent(event);
+            case LEFT -> target.onLeftEvent(event);
+            case RIGHT -> target.onRightEvent(event);
+            case ROTATE -> target.onRotateEvent(event);
+            case HOLD -> target.onHoldEvent(event);
+            case HARD_DROP -> target.onHardDropEvent(event);
+        }
+    }
+
+    private void readNext() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (offset >= stream.length) {
+                throw new IllegalStateException("Truncated replay stream");
+            }
+            b = stream[offset++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        nextType = (int) (value & Replay.TYPE_MASK);
+        nextTick += value >>> Replay.TYPE_BITS;
+        if (nextType != Replay.END && nextType >= TYPES.length) {
+            throw new IllegalStateException("Unknown input type " + nextType + " in replay");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.comp2042.replay;
+
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Records the inputs passed to an {@link InputEventListener} while forwarding them unchanged.
+ * Down events from {@link EventSource#THREAD} are gravity and advance the tick counter;
+ * every other event is stored with the tick it arrived on.
+ * Each {@link #createNewGame()} starts a new recording.
+ */
+public class ReplayRecorder implements InputEventListener {
+
+    private final InputEventListener delegate;
+    private final SevenBagGenerator generator;
+
+    private byte[] buffer = new byte[256];
+    private int length;
+    private int inputCount;
+    private long tick;
+    private long lastInputTick;
+    private long startPosition;
+
+    /**
+     * @param delegate The listener that actually runs the game
+     * @param generator The generator the game's board deals from, so the replay can reproduce it
+     */
+    public ReplayRecorder(InputEventListener delegate, SevenBagGenerator generator) {
+        this.delegate = delegate;
+        this.generator = generator;
+        this.startPosition = generator.getPosition();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (event.getEventSource() == EventSource.THREAD) {
+            // Count the tick first so a game ending on this tick includes it
+            tick++;
+        } else {
+            record(EventType.DOWN);
+        }
+        return delegate.onDownEvent(event);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(EventType.LEFT);
+        return delegate.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(EventType.RIGHT);
+        return delegate.onRightEvent(event);
+    }
+
+    @Override
+    public boolean onShiftEvent(MoveEvent event) {
+        record(event.getEventType());
+        return delegate.onShiftEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(EventType.ROTATE);
+        return delegate.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(EventType.HOLD);
+        return delegate.onHoldEvent(event);
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(EventType.HARD_DROP);
+        return delegate.onHardDropEvent(event);
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return delegate.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        length = 0;
+        inputCount = 0;
+        tick = 0;
+        lastInputTick = 0;
+        startPosition = generator.getPosition();
+        delegate.createNewGame();
+    }
+
+    /**
+     * Captures the game recorded so far. Recording continues afterwards.
+     *
+     * @return The replay up to the current tick
+     */
+    public Replay toReplay() {
+        byte[] stream = Arrays.copyOf(buffer, length + 10);
+        int end = writeVarLong(stream, length, ((tick - lastInputTick) << Replay.TYPE_BITS) | Replay.END);
+        return new Replay(generator.getSeed(), startPosition, inputCount, tick, Arrays.copyOf(stream, end));
+    }
+
+    /**
+     * @return Number of gravity ticks recorded in the current game
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    private void record(EventType type) {
+        if (buffer.length - length < 10) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        length = writeVarLong(buffer, length, ((tick - lastInputTick) << Replay.TYPE_BITS) | type.ordinal());
+        lastInputTick = tick;
+        inputCount++;
+    }
+
+    private static int writeVarLong(byte[] target, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,43 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutoShiftTest {
+
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    @Test
+    void instantRepeatSlidesToTheWallOfAWideBoard() {
+        int columns = 3 * GameConstants.BOARD_WIDTH;
+        GameEngine engine = new GameEngine(BoardType.SIMPLE.create(GameConstants.BOARD_HEIGHT, columns, new SevenBagGenerator(1)));
+        engine.createNewGame();
+        AutoShift autoShift = new AutoShift(engine, 1, 0, 1);
+
+        assertTrue(autoShift.press(EventType.RIGHT));
+        assertTrue(autoShift.tick());
+        assertFalse(engine.onShiftEvent(RIGHT), "the brick should be at the right wall");
+        assertTrue(autoShift.getViewData().getxPosition() > GameConstants.BOARD_WIDTH);
+        assertFalse(autoShift.tick(), "a brick at the wall does not move again");
+    }
+
+    @Test
+    void heldKeysStopMovingOnceTheGameIsOver() {
+        GameEngine engine = new GameEngine(BoardType.SIMPLE.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, new SevenBagGenerator(1)));
+        engine.createNewGame();
+        while (!engine.isGameOver()) {
+            engine.onHardDropEvent(HARD_DROP);
+        }
+        AutoShift autoShift = new AutoShift(engine, 1, 0, 1);
+
+        assertFalse(autoShift.press(EventType.LEFT));
+        assertFalse(autoShift.press(EventType.DOWN));
+        for (int tick = 0; tick < 10; tick++) {
+            assertFalse(autoShift.tick(), "tick " + tick);
+        }
+    }
+}
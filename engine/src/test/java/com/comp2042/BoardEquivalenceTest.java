@@ -0,0 +1,64 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.comp2042.GameScript.COLUMNS;
+import static com.comp2042.GameScript.ROWS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Plays the same seeded inputs on every {@link BoardType} next to the {@link SimpleBoard}
+ * reference and requires identical results after every input: matrix, landing row, column
+ * heights, stats, score, counters and the rows each lock cleared.
+ */
+class BoardEquivalenceTest {
+
+    private static final int GAMES = 40;
+    private static final int MAX_STEPS = 600;
+
+    @TestFactory
+    Stream<DynamicTest> everyBoardPlaysLikeTheReference() {
+        // The standard width, and boards wider than one 64-bit row mask word
+        return Arrays.stream(BoardType.values())
+                .filter(type -> type != BoardType.SIMPLE)
+                .flatMap(type -> Stream.of(COLUMNS, 64, 70)
+                        .map(columns -> dynamicTest(type + " " + columns + " wide", () -> {
+                            int totalLines = 0;
+                            for (int seed = 1; seed <= GAMES; seed++) {
+                                totalLines += playSideBySide(type, columns, seed);
+                            }
+                            assertTrue(totalLines > GAMES / 2, "the games should clear lines, cleared " + totalLines);
+                        })));
+    }
+
+    /**
+     * @return Lines the reference game cleared
+     */
+    private static int playSideBySide(BoardType type, int columns, long seed) {
+        GameEngine reference = new GameEngine(BoardType.SIMPLE.create(ROWS, columns, new SevenBagGenerator(seed)));
+        GameEngine candidate = new GameEngine(type.create(ROWS, columns, new SevenBagGenerator(seed)));
+        reference.createNewGame();
+        candidate.createNewGame();
+        Random referenceInputs = new Random(seed);
+        Random candidateInputs = new Random(seed);
+        GreedyBot referenceBot = new GreedyBot();
+        GreedyBot candidateBot = new GreedyBot();
+        assertEquals(GameScript.describe(reference), GameScript.describe(candidate), "seed " + seed + " at start");
+        for (int step = 0; step < MAX_STEPS && !reference.isGameOver(); step++) {
+            String where = "seed " + seed + " step " + step;
+            assertEquals(GameScript.step(reference, referenceInputs, referenceBot),
+                    GameScript.step(candidate, candidateInputs, candidateBot), where);
+            assertEquals(GameScript.describe(reference), GameScript.describe(candidate), where);
+        }
+        assertEquals(reference.isGameOver(), candidate.isGameOver(), "seed " + seed + " at end");
+        return reference.getLinesCleared();
+    }
+}
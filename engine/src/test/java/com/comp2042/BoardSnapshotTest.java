@@ -0,0 +1,98 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.comp2042.GameScript.COLUMNS;
+import static com.comp2042.GameScript.ROWS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+class BoardSnapshotTest {
+
+    private static final long SEED = 2024L;
+
+    @TestFactory
+    Stream<DynamicTest> restoreReturnsToTheCapturedGame() {
+        return Arrays.stream(BoardType.values()).map(type -> dynamicTest(type.name(), () -> {
+            GameEngine engine = new GameEngine(type.create(ROWS, COLUMNS, new SevenBagGenerator(SEED)));
+            engine.createNewGame();
+            GameScript.play(engine, new Random(1), 80);
+            assertFalse(engine.isGameOver(), "the game should still be running when the snapshot is taken");
+
+            GameSnapshot snapshot = engine.snapshot();
+            String captured = GameScript.describe(engine);
+            int linesBefore = engine.getLinesCleared();
+            GameScript.play(engine, new Random(2), 150);
+            String continued = GameScript.describe(engine);
+            assertTrue(engine.getLinesCleared() > linesBefore, "the continuation should clear lines");
+
+            engine.restore(snapshot);
+            assertEquals(captured, GameScript.describe(engine), "state after restore");
+
+            // The restored game deals the same bricks, so the same inputs lead to the same game
+            GameScript.play(engine, new Random(2), 150);
+            assertEquals(continued, GameScript.describe(engine), "game replayed after restore");
+
+            // Writes after the first restore must not have leaked into the shared rows
+            engine.restore(snapshot);
+            assertEquals(captured, GameScript.describe(engine), "state after second restore");
+        }));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> everySnapshotOfAGameRestores() {
+        return Arrays.stream(BoardType.values()).map(type -> dynamicTest(type.name(), () -> {
+            GameEngine engine = new GameEngine(type.create(ROWS, COLUMNS, new SevenBagGenerator(SEED)));
+            engine.createNewGame();
+            Random random = new Random(3);
+            GameSnapshot[] snapshots = new GameSnapshot[40];
+            String[] states = new String[snapshots.length];
+            for (int i = 0; i < snapshots.length; i++) {
+                snapshots[i] = engine.snapshot();
+                states[i] = GameScript.describe(engine);
+                GameScript.play(engine, random, 15);
+            }
+            for (int i = snapshots.length - 1; i >= 0; i--) {
+                engine.restore(snapshots[i]);
+                assertEquals(states[i], GameScript.describe(engine), "snapshot " + i);
+            }
+        }));
+    }
+
+    @Test
+    void generatorsThatCannotSeekAreRejected() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(ROWS, COLUMNS, new RandomBrickGenerator());
+            board.newGame();
+            assertThrows(UnsupportedOperationException.class, board::snapshot, type.name());
+        }
+    }
+
+    @Test
+    void snapshotsOfOtherBoardsAreRejected() {
+        for (BoardType from : BoardType.values()) {
+            Board source = from.create(ROWS, COLUMNS, new SevenBagGenerator(SEED));
+            source.newGame();
+            BoardSnapshot snapshot = source.snapshot();
+            for (BoardType to : BoardType.values()) {
+                Board larger = to.create(ROWS + 1, COLUMNS, new SevenBagGenerator(SEED));
+                assertThrows(IllegalArgumentException.class, () -> larger.restore(snapshot), from + " into larger " + to);
+                if (to != from) {
+                    Board other = to.create(ROWS, COLUMNS, new SevenBagGenerator(SEED));
+                    assertThrows(IllegalArgumentException.class, () -> other.restore(snapshot), from + " into " + to);
+                }
+            }
+        }
+    }
+}
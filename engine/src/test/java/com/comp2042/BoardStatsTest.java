@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Checks the incrementally maintained {@link BoardStats} of every board against a full rescan
+ * of the matrix after every merge, line clear and garbage row of seeded games.
+ */
+class BoardStatsTest {
+
+    private static final int GAMES = 25;
+    private static final int MAX_STEPS = 500;
+
+    @TestFactory
+    Stream<DynamicTest> statsMatchAFullRescan() {
+        Stream<DynamicTest> standard = Stream.of(BoardType.values())
+                .map(type -> dynamicTest(type + " " + GameConstants.BOARD_WIDTH + " wide",
+                        () -> check(type, GameConstants.BOARD_WIDTH)));
+        // Wider than one 64-bit row mask word on the bitmask boards
+        Stream<DynamicTest> wide = Stream.of(BoardType.values())
+                .flatMap(type -> Stream.of(40, 64, 70)
+                        .map(columns -> dynamicTest(type + " " + columns + " wide", () -> check(type, columns))));
+        return Stream.concat(standard, wide);
+    }
+
+    private static void check(BoardType type, int columns) {
+        int lines = 0;
+        for (int seed = 1; seed <= GAMES; seed++) {
+            GameEngine engine = new GameEngine(type.create(GameConstants.BOARD_HEIGHT, columns, new SevenBagGenerator(seed)));
+            engine.createNewGame();
+            Random random = new Random(seed);
+            GreedyBot bot = new GreedyBot();
+            assertMatchesRescan(engine.getBoard(), "seed " + seed + " at start");
+            for (int step = 0; step < MAX_STEPS && !engine.isGameOver(); step++) {
+                GameScript.step(engine, random, bot);
+                assertMatchesRescan(engine.getBoard(), "seed " + seed + " step " + step);
+            }
+            lines += engine.getLinesCleared();
+        }
+        assertTrue(lines > GAMES, "the games should clear lines, cleared " + lines);
+    }
+
+    static void assertMatchesRescan(Board board, String where) {
+        int[][] matrix = board.getBoardMatrix();
+        BoardStats stats = board.getStats();
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+
+        int[] heights = new int[columns];
+        int aggregateHeight = 0;
+        int holes = 0;
+        int filled = 0;
+        for (int column = 0; column < columns; column++) {
+            int columnHoles = 0;
+            for (int row = 0; row < rows; row++) {
+                if (matrix[row][column] != 0) {
+                    filled++;
+                    if (heights[column] == 0) {
+                        heights[column] = rows - row;
+                    }
+                } else if (heights[column] != 0) {
+                    columnHoles++;
+                }
+            }
+            assertEquals(heights[column], stats.getColumnHeight(column), where + " height of column " + column);
+            assertEquals(columnHoles, stats.getColumnHoles(column), where + " holes in column " + column);
+            aggregateHeight += heights[column];
+            holes += columnHoles;
+        }
+
+        int bumpiness = 0;
+        for (int column = 1; column < columns; column++) {
+            bumpiness += Math.abs(heights[column] - heights[column - 1]);
+        }
+        int wellSum = 0;
+        for (int column = 0; column < columns; column++) {
+            int left = column == 0 ? Integer.MAX_VALUE : heights[column - 1];
+            int right = column == columns - 1 ? Integer.MAX_VALUE : heights[column + 1];
+            int walls = Math.min(left, right);
+            int depth = walls == Integer.MAX_VALUE ? 0 : Math.max(0, walls - heights[column]);
+            assertEquals(depth, stats.getWellDepth(column), where + " well depth of column " + column);
+            wellSum += depth;
+        }
+
+        int transitions = 0;
+        for (int row = 0; row < rows; row++) {
+            int rowFill = 0;
+            int rowTransitions = 0;
+            boolean previous = true;
+            for (int column = 0; column < columns; column++) {
+                boolean cell = matrix[row][column] != 0;
+                assertEquals(cell, stats.isFilled(row, column), where + " cell " + row + "," + column);
+                if (cell) {
+                    rowFill++;
+                }
+                if (cell != previous) {
+                    rowTransitions++;
+                }
+                previous = cell;
+            }
+            if (!previous) {
+                rowTransitions++;
+            }
+            assertEquals(rowFill, stats.getRowFill(row), where + " fill of row " + row);
+            transitions += rowFill == 0 ? 0 : rowTransitions;
+        }
+
+        assertEquals(aggregateHeight, stats.getAggregateHeight(), where + " aggregate height");
+        assertEquals(holes, stats.getHoles(), where + " holes");
+        assertEquals(filled, stats.getFilledCells(), where + " filled cells");
+        assertEquals(bumpiness, stats.getBumpiness(), where + " bumpiness");
+        assertEquals(wellSum, stats.getWellSum(), where + " well sum");
+        assertEquals(transitions, stats.getRowTransitions(), where + " row transitions");
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Plays seeded pseudo-random inputs into an engine and describes the resulting state, so
+ * tests can compare games across boards or across a snapshot and restore.
+ */
+final class GameScript {
+
+    static final int ROWS = GameConstants.BOARD_HEIGHT;
+    static final int COLUMNS = GameConstants.BOARD_WIDTH;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private GameScript() {
+    }
+
+    /**
+     * Sends {@code steps} random inputs, see {@link #step}. Does nothing once the game is over.
+     */
+    static void play(GameEngine engine, Random random, int steps) {
+        GreedyBot bot = new GreedyBot();
+        for (int i = 0; i < steps && !engine.isGameOver(); i++) {
+            step(engine, random, bot);
+        }
+    }
+
+    /**
+     * Sends one random input: a move, rotation, hold, soft or hard drop, gravity, the
+     * occasional garbage row, or most often a whole placement chosen by the bot, so that
+     * games last long enough to clear lines.
+     *
+     * @return The line clear the input caused, described, or an empty string if it locked nothing
+     */
+    static String step(GameEngine engine, Random random, GreedyBot bot) {
+        DownData down = null;
+        switch (random.nextInt(24)) {
+            case 0, 1 -> engine.onLeftEvent(LEFT);
+            case 2, 3 -> engine.onRightEvent(RIGHT);
+            case 4, 5 -> engine.onRotateEvent(ROTATE);
+            case 6 -> engine.onHoldEvent(HOLD);
+            case 7 -> down = engine.onDownEvent(SOFT_DROP);
+            case 8 -> down = engine.onDownEvent(GRAVITY);
+            case 9 -> down = engine.onHardDropEvent(HARD_DROP);
+            case 10 -> {
+                if (random.nextInt(3) == 0) {
+                    return "garbage topped out " + engine.addGarbage(1 + random.nextInt(2), random.nextInt(engine.getBoardMatrix()[0].length));
+                }
+                down = engine.onDownEvent(GRAVITY);
+            }
+            default -> down = bot.playPiece(engine.getBoard(), engine);
+        }
+        ClearRow clearRow = down == null ? null : down.getClearRow();
+        if (clearRow == null) {
+            return "";
+        }
+        return "cleared " + Arrays.toString(clearRow.getClearedRows()) + " lines " + clearRow.getLinesRemoved()
+                + " bonus " + clearRow.getScoreBonus();
+    }
+
+    /**
+     * @return Everything observable about the game, one fact per line, for assertEquals
+     */
+    static String describe(GameEngine engine) {
+        Board board = engine.getBoard();
+        StringBuilder text = new StringBuilder();
+        text.append("gameOver ").append(engine.isGameOver())
+                .append("\nscore ").append(engine.getScore())
+                .append("\nlines ").append(engine.getLinesCleared())
+                .append("\npieces ").append(engine.getPiecesPlaced())
+                .append("\ngenerator ").append(board.getBrickGenerator().getPosition());
+        if (!engine.isGameOver()) {
+            ViewData view = board.getViewData();
+            text.append("\nbrick ").append(Arrays.deepToString(view.getBrickData()))
+                    .append(" at ").append(view.getxPosition()).append(',').append(view.getyPosition())
+                    .append(" rotation ").append(board.getCurrentRotation())
+                    .append("\nlanding ").append(board.getLandingY());
+        }
+        text.append("\nheights");
+        for (int column = 0; column < board.getBoardMatrix()[0].length; column++) {
+            text.append(' ').append(board.getColumnHeight(column));
+        }
+        BoardStats stats = board.getStats();
+        text.append("\nstats holes ").append(stats.getHoles())
+                .append(" bumpiness ").append(stats.getBumpiness())
+                .append(" wells ").append(stats.getWellSum())
+                .append(" transitions ").append(stats.getRowTransitions());
+        for (int[] row : board.getBoardMatrix()) {
+            text.append('\n').append(Arrays.toString(row));
+        }
+        return text.toString();
+    }
+}
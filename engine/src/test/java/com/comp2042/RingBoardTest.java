@@ -0,0 +1,195 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a {@link RingBoard} through each way its ring moves: clears compacted up (rotating the
+ * ring) or down (leaving it), and garbage that rotates it, wraps it round and overflows the top.
+ * Each scenario is also played on every {@link BoardType}, whose matrices the ring board must match.
+ */
+class RingBoardTest {
+
+    private static final int ROWS = 40;
+    private static final int COLUMNS = GameConstants.BOARD_WIDTH;
+    private static final Brick I_BRICK = findIBrick();
+
+    @Test
+    void clearsInTheLowerHalfCompactUpAndRotateTheRing() {
+        RingBoard ring = playAgainstReference(board -> {
+            board.newGame();
+            board.addGarbageRows(3, 0);
+            board.addGarbageRows(1, 1);
+            assertArrayEquals(new int[]{ROWS - 4, ROWS - 3, ROWS - 2}, dropIntoFirstColumn(board).getClearedRows());
+        });
+        // The garbage turned the ring to 4, then the clear turned it on by the 37 rows left
+        assertEquals(1, ring.getTop());
+        int[][] matrix = ring.getBoardMatrix();
+        assertRow(matrix[ROWS - 1], 1);
+        assertEquals(1, filledCells(matrix[ROWS - 2]));
+        assertTrue(matrix[ROWS - 2][0] != 0, "the rest of the I brick sits on the garbage");
+        assertEmptyAbove(matrix, ROWS - 2);
+    }
+
+    @Test
+    void clearsInTheUpperHalfCompactDownWithoutRotating() {
+        RingBoard ring = playAgainstReference(board -> {
+            board.newGame();
+            board.addGarbageRows(3, 0);
+            board.addGarbageRows(20, 1);
+            assertArrayEquals(new int[]{17, 18, 19}, dropIntoFirstColumn(board).getClearedRows());
+        });
+        assertEquals(23, ring.getTop());
+        int[][] matrix = ring.getBoardMatrix();
+        for (int row = 20; row < ROWS; row++) {
+            assertRow(matrix[row], 1);
+        }
+        assertEquals(1, filledCells(matrix[19]));
+        assertTrue(matrix[19][0] != 0, "the rest of the I brick sits on the garbage");
+        assertEmptyAbove(matrix, 19);
+    }
+
+    @Test
+    void garbageRotatesTheRingAndWrapsRound() {
+        RingBoard ring = playAgainstReference(board -> {
+            for (int call = 1; call <= 5; call++) {
+                assertFalse(board.addGarbageRows(7, call), "call " + call);
+                if (board instanceof RingBoard rotated) {
+                    assertEquals(7 * call, rotated.getTop(), "call " + call);
+                }
+            }
+            assertTrue(board.addGarbageRows(7, 0), "the stack is pushed off the top");
+        });
+        assertEquals(7 * 6 - ROWS, ring.getTop());
+        // The first two garbage rows were pushed off
+        int[][] matrix = ring.getBoardMatrix();
+        for (int row = 0; row < ROWS; row++) {
+            assertRow(matrix[row], (row + 2) / 7 == 5 ? 0 : (row + 2) / 7 + 1);
+        }
+    }
+
+    @Test
+    void garbageThatBuriesTheBrickTopsOut() {
+        playAgainstReference(board -> {
+            board.newGame();
+            assertFalse(board.addGarbageRows(ROWS - 5, 4));
+            assertTrue(board.addGarbageRows(ROWS + 5, 2), "more rows than the board holds");
+            for (int[] row : board.getBoardMatrix()) {
+                assertRow(row, 2);
+            }
+        });
+    }
+
+    /**
+     * Plays a scenario on a ring board and on every other board type, then requires the same
+     * matrix and column heights everywhere and stats that match a rescan.
+     *
+     * @return The ring board, for checks of its own
+     */
+    private static RingBoard playAgainstReference(Consumer<Board> scenario) {
+        RingBoard ring = new RingBoard(ROWS, COLUMNS, new RepeatingGenerator());
+        scenario.accept(ring);
+        BoardStatsTest.assertMatchesRescan(ring, "ring");
+        for (BoardType type : BoardType.values()) {
+            Board other = type.create(ROWS, COLUMNS, new RepeatingGenerator());
+            scenario.accept(other);
+            assertArrayEquals(other.getBoardMatrix(), ring.getBoardMatrix(), type.name());
+            for (int column = 0; column < COLUMNS; column++) {
+                assertEquals(other.getColumnHeight(column), ring.getColumnHeight(column), type + " column " + column);
+            }
+        }
+        return ring;
+    }
+
+    /**
+     * Stands the falling I brick up, slides it to the left wall, drops and locks it.
+     */
+    private static ClearRow dropIntoFirstColumn(Board board) {
+        assertTrue(board.rotateLeftBrick());
+        while (board.moveBrickLeft()) {
+            // slide to the wall
+        }
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        return board.clearRows();
+    }
+
+    /**
+     * Requires a full garbage row with its single hole in the given column.
+     */
+    private static void assertRow(int[] row, int holeColumn) {
+        for (int column = 0; column < row.length; column++) {
+            assertEquals(column != holeColumn, row[column] != 0, "column " + column + " with the hole at " + holeColumn);
+        }
+    }
+
+    private static void assertEmptyAbove(int[][] matrix, int row) {
+        for (int above = 0; above < row; above++) {
+            assertEquals(0, filledCells(matrix[above]), "row " + above);
+        }
+    }
+
+    private static int filledCells(int[] row) {
+        int count = 0;
+        for (int cell : row) {
+            if (cell != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The I brick, the only brick four cells wide
+     */
+    private static Brick findIBrick() {
+        SevenBagGenerator generator = new SevenBagGenerator(1);
+        while (true) {
+            Brick brick = generator.getBrick();
+            var orientation = brick.getRotationTable().getOrientation(0);
+            if (orientation.getMaxX() - orientation.getMinX() == 3) {
+                return brick;
+            }
+        }
+    }
+
+    /**
+     * Deals nothing but I bricks, so the scenarios know the falling brick.
+     */
+    private static final class RepeatingGenerator implements BrickGenerator {
+
+        @Override
+        public Brick getBrick() {
+            return I_BRICK;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return I_BRICK;
+        }
+
+        @Override
+        public Brick getSecondNextBrick() {
+            return I_BRICK;
+        }
+
+        @Override
+        public Brick getThirdNextBrick() {
+            return I_BRICK;
+        }
+
+        @Override
+        public Brick peekBrick(int depth) {
+            return I_BRICK;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the allocation-free movement path of {@link SimpleBoard}: once the JIT has warmed up,
+ * moving and rotating the falling brick must not allocate on the heap.
+ */
+class SimpleBoardAllocationTest {
+
+    private static final int WARMUP_CYCLES = 200_000;
+    private static final int MEASURED_CYCLES = 1_000_000;
+    /**
+     * Slack for stray allocations by the runtime while measuring, about one TLAB refill.
+     * A move that allocated even one small object would add tens of megabytes.
+     */
+    private static final long ALLOWED_BYTES = 64 * 1024;
+
+    @Test
+    void movesAndRotationsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "allocation counting unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        SimpleBoard board = new SimpleBoard(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+        board.createNewBrick();
+        runCycles(board, WARMUP_CYCLES);
+
+        // What reading the counter itself costs, so only the moves are measured
+        long start = threads.getThreadAllocatedBytes(threadId);
+        long baseline = threads.getThreadAllocatedBytes(threadId) - start;
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        runCycles(board, MEASURED_CYCLES);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before - baseline;
+
+        assertTrue(allocated <= ALLOWED_BYTES, allocated + " bytes allocated over " + MEASURED_CYCLES + " cycles");
+    }
+
+    /**
+     * Moves the brick left, right and down and rotates it. Once it reaches the floor the down
+     * moves fail without merging, which still exercises the collision check.
+     */
+    private static void runCycles(SimpleBoard board, int cycles) {
+        for (int i = 0; i < cycles; i++) {
+            board.moveBrickLeft();
+            board.moveBrickRight();
+            board.moveBrickDown();
+            board.rotateLeftBrick();
+        }
+    }
+}
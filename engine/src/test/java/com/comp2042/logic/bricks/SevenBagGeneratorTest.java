@@ -0,0 +1,123 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SevenBagGeneratorTest {
+
+    private static final int LENGTH = 700;
+    /** Deeper than the generator's 16-entry ring */
+    private static final int DEEP_PEEK = 20;
+
+    /**
+     * Deals bricks one by one and records their ids.
+     */
+    private static int[] deal(SevenBagGenerator generator, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generator.peekId(0);
+            generator.getBrick();
+        }
+        return ids;
+    }
+
+    @Test
+    void sameSeedDealsSameSequence() {
+        assertArrayEquals(deal(new SevenBagGenerator(42L), LENGTH), deal(new SevenBagGenerator(42L), LENGTH));
+        assertFalse(Arrays.equals(deal(new SevenBagGenerator(42L), LENGTH),
+                deal(new SevenBagGenerator(43L), LENGTH)));
+    }
+
+    @Test
+    void everyBagHoldsEachBrickOnce() {
+        int[] ids = deal(new SevenBagGenerator(7L), LENGTH);
+        for (int bag = 0; bag < LENGTH / SevenBagGenerator.BAG_SIZE; bag++) {
+            boolean[] seen = new boolean[SevenBagGenerator.BAG_SIZE];
+            for (int i = 0; i < SevenBagGenerator.BAG_SIZE; i++) {
+                int id = ids[bag * SevenBagGenerator.BAG_SIZE + i];
+                assertFalse(seen[id], "brick " + id + " twice in bag " + bag);
+                seen[id] = true;
+            }
+        }
+    }
+
+    @Test
+    void dealtBrickMatchesPeekedId() {
+        SevenBagGenerator generator = new SevenBagGenerator(3L);
+        SevenBagGenerator reference = new SevenBagGenerator(3L);
+        for (int i = 0; i < LENGTH; i++) {
+            Brick peeked = reference.peekBrick(0);
+            assertSame(peeked, generator.getBrick());
+            reference.getBrick();
+        }
+    }
+
+    @Test
+    void seekMatchesSequentialDealing() {
+        int[] expected = deal(new SevenBagGenerator(11L), LENGTH);
+        SevenBagGenerator generator = new SevenBagGenerator(11L);
+        // Forwards, backwards and across bag boundaries, with the ring both warm and cold
+        int[] positions = {0, 5, 6, 7, 300, 13, 299, 650, 1, 648, 400};
+        for (int position : positions) {
+            generator.seek(position);
+            assertEquals(position, generator.getPosition());
+            assertArrayEquals(slice(expected, position, 40), deal(generator, 40), "after seek to " + position);
+        }
+    }
+
+    @Test
+    void jumpAheadMatchesSequentialDealing() {
+        int[] expected = deal(new SevenBagGenerator(12L), LENGTH);
+        SevenBagGenerator generator = new SevenBagGenerator(12L);
+        int position = 0;
+        for (int jump : new int[]{0, 1, 6, 15, 16, 17, 100}) {
+            generator.peekId(DEEP_PEEK);
+            generator.jumpAhead(jump);
+            position += jump;
+            assertEquals(expected[position], generator.peekId(0), "after jumping " + jump);
+            generator.getBrick();
+            position++;
+        }
+    }
+
+    @Test
+    void peeksBeyondTheRingMatchSequentialDealing() {
+        int[] expected = deal(new SevenBagGenerator(13L), LENGTH);
+        SevenBagGenerator generator = new SevenBagGenerator(13L);
+        deal(generator, 10);
+        for (int depth = 0; depth < 100; depth++) {
+            assertEquals(expected[10 + depth], generator.peekId(depth), "peek depth " + depth);
+        }
+        // Deep peeks must not disturb the buffered bricks
+        assertArrayEquals(slice(expected, 10, 100), deal(generator, 100));
+    }
+
+    @Test
+    void splitGeneratorsAreReproducibleAndIndependent() {
+        SevenBagGenerator root = new SevenBagGenerator(99L);
+        SevenBagGenerator first = root.split();
+        SevenBagGenerator second = root.split();
+        assertNotEquals(first.getSeed(), second.getSeed());
+
+        SevenBagGenerator again = new SevenBagGenerator(99L);
+        assertEquals(first.getSeed(), again.split().getSeed());
+        assertEquals(second.getSeed(), again.split().getSeed());
+
+        // Dealing from one split leaves the others and the root untouched
+        int[] secondExpected = deal(new SevenBagGenerator(second.getSeed()), LENGTH);
+        deal(first, LENGTH);
+        assertArrayEquals(secondExpected, deal(second, LENGTH));
+        assertArrayEquals(deal(new SevenBagGenerator(99L), LENGTH), deal(root, LENGTH));
+    }
+
+    private static int[] slice(int[] ids, int from, int count) {
+        return Arrays.copyOfRange(ids, from, from + count);
+    }
+}
@@ -0,0 +1,202 @@
+package com.comp2042.replay;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameConstants;
+import com.comp2042.GameEngine;
+import com.comp2042.GreedyBot;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+class ReplayTest {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    @Test
+    void inputsAreEncodedAsTickDeltaAndType() {
+        ReplayRecorder recorder = newRecording(1L, BoardType.SIMPLE);
+        recorder.onRotateEvent(ROTATE);
+        gravity(recorder, 3);
+        recorder.onLeftEvent(LEFT);
+        gravity(recorder, 20);
+        recorder.onHardDropEvent(HARD_DROP);
+        gravity(recorder, 2);
+
+        Replay replay = recorder.toReplay();
+        assertArrayEquals(new byte[]{
+                (byte) EventType.ROTATE.ordinal(),
+                (byte) (3 << Replay.TYPE_BITS | EventType.LEFT.ordinal()),
+                // 20 << 3 | 5 = 165 needs a second varint byte
+                (byte) (165 & 0x7F | 0x80), (byte) (165 >>> 7),
+                (byte) (2 << Replay.TYPE_BITS | Replay.END)
+        }, replay.stream());
+        assertEquals(3, replay.getInputCount());
+        assertEquals(25, replay.getTickCount());
+        assertEquals(5, replay.getStreamLength());
+    }
+
+    @Test
+    void writeAndReadRoundTrip() throws IOException {
+        Replay replay = recordGame(7L, BoardType.BITBOARD, new Random(3), 400);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        byte[] bytes = out.toByteArray();
+
+        Replay read = Replay.read(new ByteArrayInputStream(bytes));
+        assertEquals(replay, read);
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(replay.getStartPosition(), read.getStartPosition());
+        assertEquals(replay.getInputCount(), read.getInputCount());
+        assertEquals(replay.getTickCount(), read.getTickCount());
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(EOFException.class, () -> Replay.read(new ByteArrayInputStream(truncated)));
+        bytes[0] ^= 1;
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void endPlaysTheTicksAfterTheLastInputAndStops() {
+        ReplayRecorder recorder = newRecording(5L, BoardType.SIMPLE);
+        recorder.onRightEvent(RIGHT);
+        gravity(recorder, 4);
+        Replay early = recorder.toReplay();
+        // Recording carries on after a capture, and a later capture moves END on
+        gravity(recorder, 300);
+        Replay late = recorder.toReplay();
+
+        assertEquals(1, early.getInputCount());
+        assertEquals(4, early.getTickCount());
+        assertEquals(304, late.getTickCount());
+        assertEquals(early.getStreamLength() + 1, late.getStreamLength(), "304 << 3 takes a second byte");
+
+        GameEngine engine = new GameEngine(BoardType.SIMPLE.create(GameConstants.BOARD_HEIGHT,
+                GameConstants.BOARD_WIDTH, ReplayPlayer.createGenerator(early)));
+        engine.createNewGame();
+        ReplayPlayer player = new ReplayPlayer(early, engine);
+        for (int tick = 0; tick < 4; tick++) {
+            assertFalse(player.isFinished());
+            assertNotNull(player.step(), "tick " + tick);
+        }
+        assertTrue(player.isFinished());
+        assertNull(player.step());
+        assertEquals(4, player.getTick());
+    }
+
+    @Test
+    void truncatedStreamIsRejected() {
+        // A LEFT input with no END after it
+        Replay replay = new Replay(1L, 0, 1, 0, new byte[]{(byte) EventType.LEFT.ordinal()});
+        GameEngine engine = new GameEngine(BoardType.SIMPLE.create(GameConstants.BOARD_HEIGHT,
+                GameConstants.BOARD_WIDTH, ReplayPlayer.createGenerator(replay)));
+        engine.createNewGame();
+        ReplayPlayer player = new ReplayPlayer(replay, engine);
+        assertThrows(IllegalStateException.class, player::step);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> simulateReproducesTheRecordedGame() {
+        return Arrays.stream(BoardType.values()).flatMap(type -> Stream.of(11L, 12L, 13L).map(seed ->
+                dynamicTest(type + " seed " + seed, () -> {
+                    SevenBagGenerator generator = new SevenBagGenerator(seed);
+                    GameEngine engine = new GameEngine(type.create(GameConstants.BOARD_HEIGHT,
+                            GameConstants.BOARD_WIDTH, generator));
+                    ReplayRecorder recorder = new ReplayRecorder(engine, generator);
+                    // A game that already ran, so the replay has to start mid-sequence
+                    recorder.createNewGame();
+                    play(recorder, engine, new Random(seed), 50);
+                    recorder.createNewGame();
+                    play(recorder, engine, new Random(seed + 100), 600);
+                    assertTrue(engine.getLinesCleared() > 0, "the game should clear lines");
+
+                    Replay replay = roundTrip(recorder.toReplay());
+                    GameEngine simulated = ReplayPlayer.simulate(replay, type);
+                    assertEquals(engine.getScore(), simulated.getScore(), "score");
+                    assertEquals(engine.getLinesCleared(), simulated.getLinesCleared(), "lines");
+                    assertEquals(engine.getPiecesPlaced(), simulated.getPiecesPlaced(), "pieces");
+                    assertEquals(engine.isGameOver(), simulated.isGameOver(), "game over");
+                    assertArrayEquals(engine.getBoardMatrix(), simulated.getBoardMatrix(), "board");
+                })));
+    }
+
+    private static ReplayRecorder newRecording(long seed, BoardType type) {
+        SevenBagGenerator generator = new SevenBagGenerator(seed);
+        GameEngine engine = new GameEngine(type.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, generator));
+        ReplayRecorder recorder = new ReplayRecorder(engine, generator);
+        recorder.createNewGame();
+        return recorder;
+    }
+
+    private static Replay recordGame(long seed, BoardType type, Random random, int steps) {
+        SevenBagGenerator generator = new SevenBagGenerator(seed);
+        GameEngine engine = new GameEngine(type.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, generator));
+        ReplayRecorder recorder = new ReplayRecorder(engine, generator);
+        recorder.createNewGame();
+        play(recorder, engine, random, steps);
+        return recorder.toReplay();
+    }
+
+    /**
+     * Sends random inputs and gravity through the recorder, with the bot placing most bricks
+     * so the game lasts long enough to clear lines. Keeps going after a game over, which the
+     * replay must reproduce too.
+     */
+    private static void play(ReplayRecorder recorder, GameEngine engine, Random random, int steps) {
+        GreedyBot bot = new GreedyBot();
+        for (int i = 0; i < steps; i++) {
+            switch (random.nextInt(16)) {
+                case 0 -> recorder.onLeftEvent(LEFT);
+                case 1 -> recorder.onRightEvent(RIGHT);
+                case 2 -> recorder.onShiftEvent(random.nextBoolean() ? LEFT : RIGHT);
+                case 3 -> recorder.onRotateEvent(ROTATE);
+                case 4 -> recorder.onHoldEvent(HOLD);
+                case 5 -> recorder.onDownEvent(SOFT_DROP);
+                case 6, 7, 8, 9 -> gravity(recorder, 1 + random.nextInt(20));
+                default -> {
+                    if (!engine.isGameOver()) {
+                        bot.playPiece(engine.getBoard(), recorder);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void gravity(ReplayRecorder recorder, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            recorder.onDownEvent(GRAVITY);
+        }
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return Replay.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -1,21 +0,0 @@
-package com.comp2042;
-
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
-public final class Score {
-
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-
-    public IntegerProperty scoreProperty() {
-        return score;
-    }
-
-    public void add(int i){
-        score.setValue(score.getValue() + i);
-    }
-
-    public void reset() {
-        score.setValue(0);
-    }
-}
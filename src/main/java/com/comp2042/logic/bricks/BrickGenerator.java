@@ -1,12 +0,0 @@
-package com.comp2042.logic.bricks;
-
-public interface BrickGenerator {
-
-    Brick getBrick();
-
-    Brick getNextBrick();
-
-    Brick getSecondNextBrick();
-
-    Brick getThirdNextBrick();
-}